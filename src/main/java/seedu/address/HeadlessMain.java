@@ -0,0 +1,164 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.api.ApiServer;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * The entry point to run the application without its GUI, e.g. for scheduled imports and reports on a server.
+ *
+ * Unlike {@link Main}, it does not start the JavaFX toolkit or load any FXML. It initializes the same
+ * {@code Storage}, {@code Model} and {@code Logic} as the GUI does, from the same config file, then runs the commands
+ * in the given file, or from the standard input if no file is given, and prints the feedback of each command to the
+ * standard output. Errors are printed to the standard error, and the exit status is non-zero if any command failed
+ * or the data could not be saved.
+ */
+public class HeadlessMain {
+
+    public static final String MESSAGE_USAGE = "Usage: java -cp addressbook.jar " + HeadlessMain.class.getName()
+            + " [--config=CONFIG_FILE] ([--batch] [COMMAND_FILE] | --serve)\n"
+            + "Runs the commands in COMMAND_FILE, or from the standard input, one per line.\n"
+            + "With --batch, the commands are run as a single change that is applied only if every command succeeds.\n"
+            + "With --serve, the HTTP API is served on the port set in the config file, or on port "
+            + ApiServer.DEFAULT_PORT + " if none is set, until the process is stopped.";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_INVALID_ARGUMENTS = 2;
+
+    private static final String BATCH_FLAG = "--batch";
+    private static final String SERVE_FLAG = "--serve";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+
+    private static Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Runs the application without its GUI with the command-line arguments {@code args}, and returns its exit status.
+     */
+    private static int run(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        boolean isBatch = false;
+        boolean isServing = false;
+        Path commandFilePath = null;
+        for (String arg : args) {
+            if (arg.equals(BATCH_FLAG)) {
+                isBatch = true;
+            } else if (arg.equals(SERVE_FLAG)) {
+                isServing = true;
+            } else if (arg.startsWith(NAMED_PARAMETER_PREFIX) && arg.contains(NAMED_PARAMETER_SEPARATOR)) {
+                int separatorIndex = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            } else if (commandFilePath == null && !arg.startsWith(NAMED_PARAMETER_PREFIX)
+                    && FileUtil.isValidPath(arg)) {
+                commandFilePath = Paths.get(arg);
+            } else {
+                System.err.println(MESSAGE_USAGE);
+                return EXIT_INVALID_ARGUMENTS;
+            }
+        }
+        if (isServing && (isBatch || commandFilePath != null)) {
+            System.err.println(MESSAGE_USAGE);
+            return EXIT_INVALID_ARGUMENTS;
+        }
+
+        logger.info("=============================[ Initializing AddressBook headless ]==================");
+        AppInitializer appInitializer = new AppInitializer(AppParameters.parse(namedParameters).getConfigPath());
+        if (isServing) {
+            return serve(appInitializer);
+        }
+
+        HeadlessRunner runner = new HeadlessRunner(appInitializer.getLogic(), System.out, System.err);
+        boolean isSuccessful = false;
+        try (BufferedReader reader = commandFilePath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(commandFilePath, StandardCharsets.UTF_8)) {
+            isSuccessful = isBatch ? runner.runBatch(reader) : runner.runCommands(reader);
+        } catch (IOException e) {
+            System.err.println("Could not read the commands: " + e.getMessage());
+            logger.warning("Could not read the commands: " + StringUtil.getDetails(e));
+        } finally {
+            logger.info("============================ [ Stopping AddressBook headless ] ====================");
+            // Commands that succeeded are only saved once the data is flushed, so a failed flush fails the run
+            isSuccessful &= shutDown(appInitializer);
+        }
+        return isSuccessful ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+    }
+
+    /**
+     * Shuts down {@code appInitializer}, and returns false after printing the error if its data could not be saved.
+     */
+    private static boolean shutDown(AppInitializer appInitializer) {
+        try {
+            appInitializer.shutDown();
+            return true;
+        } catch (IOException e) {
+            System.err.println("Could not save the address book: " + e.getMessage());
+            logger.severe("Could not save the address book: " + StringUtil.getDetails(e));
+            return false;
+        }
+    }
+
+    /**
+     * Serves the HTTP API until the process is stopped, or returns the exit status if the API cannot be served.
+     * Commands from the API run one at a time on a single thread, which is the only thread that changes the model.
+     */
+    private static int serve(AppInitializer appInitializer) {
+        int port = appInitializer.getConfig().getApiServerPort();
+        ExecutorService modelExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "model"));
+        ApiServer apiServer;
+        try {
+            apiServer = new ApiServer(appInitializer.getLogic(), modelExecutor,
+                    port == 0 ? ApiServer.DEFAULT_PORT : port);
+        } catch (IOException e) {
+            System.err.println("Could not serve the API: " + e.getMessage());
+            modelExecutor.shutdown();
+            shutDown(appInitializer);
+            return EXIT_COMMAND_FAILED;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            logger.info("============================ [ Stopping AddressBook headless ] ====================");
+            apiServer.stop();
+            // Commands already handed to the model thread finish before the data is saved
+            modelExecutor.shutdown();
+            try {
+                modelExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            shutDown(appInitializer);
+        }));
+        apiServer.start();
+        System.out.println("Serving the API on http://localhost:" + apiServer.getPort() + "/api/");
+
+        // Waits until the process is stopped, when the shutdown hook saves the data
+        try {
+            Thread.currentThread().join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return EXIT_SUCCESS;
+    }
+}
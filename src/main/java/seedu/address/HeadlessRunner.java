@@ -0,0 +1,97 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.BatchCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs commands read from a text, one per line, through a {@code Logic} without a UI, and prints the feedback of
+ * each command. Empty lines and lines starting with {@link BatchCommandParser#COMMENT_PREFIX} are skipped, as in a
+ * batch file.
+ */
+public class HeadlessRunner {
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessRunner.class);
+
+    private final Logic logic;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a {@code HeadlessRunner} that runs commands through {@code logic}, prints their feedback to
+     * {@code out} and the errors of the commands that failed to {@code err}.
+     */
+    public HeadlessRunner(Logic logic, PrintStream out, PrintStream err) {
+        requireNonNull(logic);
+        requireNonNull(out);
+        requireNonNull(err);
+        this.logic = logic;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Runs the commands read from {@code reader} one at a time, each saved as soon as it succeeds, until the input
+     * ends or a command exits the app. A command that fails does not stop the commands after it.
+     *
+     * @return true if every command succeeded.
+     * @throws IOException if the commands could not be read.
+     */
+    public boolean runCommands(BufferedReader reader) throws IOException {
+        boolean isAllSuccessful = true;
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String trimmedLine = line.trim();
+            if (trimmedLine.isEmpty() || trimmedLine.startsWith(BatchCommandParser.COMMENT_PREFIX)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(trimmedLine);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(String.format(BatchCommand.MESSAGE_LINE_RESULT, lineNumber, e.getMessage()));
+                isAllSuccessful = false;
+            }
+        }
+        return isAllSuccessful;
+    }
+
+    /**
+     * Runs all the commands read from {@code reader} as a single batch, which is applied and saved only if every
+     * command succeeds.
+     *
+     * @return true if the batch succeeded.
+     * @throws IOException if the commands could not be read.
+     * @see Logic#executeBatch(List)
+     */
+    public boolean runBatch(BufferedReader reader) throws IOException {
+        List<String> lines = reader.lines().collect(Collectors.toList());
+        logger.fine("Read " + lines.size() + " lines to run as a batch");
+        try {
+            out.println(logic.executeBatch(lines).getFeedbackToUser());
+            return true;
+        } catch (CommandException | ParseException e) {
+            err.println(e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.wedding.WeddingId;
+
+/**
+ * Serves an HTTP API to the address book on localhost, for other tools on the same computer to query and update it.
+ * <p>
+ * Reads are answered from an {@link ApiSnapshot} of the address book, so any number of them run at once, each
+ * against a consistent address book. The snapshot is taken again by the first read after the address book has
+ * changed, without waiting for the model executor. Commands run one at a time on the model executor, which must be
+ * the only thread that changes the model, e.g. the JavaFX application thread when the GUI runs. Requests are
+ * handled on virtual threads when the JDK supports them.
+ * <p>
+ * Requests from web pages are refused, as any page open in a browser on the same computer can send requests to
+ * localhost. Browsers add an {@code Origin} header to the requests of scripts, and the {@code Host} header of a
+ * request names the page's own site even when its address is made to resolve to localhost. Commands must also be
+ * sent as JSON, which a page cannot do without an {@code Origin} header.
+ */
+public class ApiServer {
+
+    public static final int DEFAULT_PORT = 8642;
+
+    public static final String MESSAGE_INVALID_COMMAND_REQUEST =
+            "The body must be a JSON object with the command to run, such as {\"command\": \"list\"}";
+    public static final String MESSAGE_UNSUPPORTED_CONTENT_TYPE =
+            "Commands must be sent with the Content-Type application/json";
+    public static final String MESSAGE_FORBIDDEN = "The API only accepts requests from tools on the same computer, "
+            + "sent to localhost or 127.0.0.1 and without an Origin header";
+
+    private static final String PERSONS_PATH = "/api/persons";
+    private static final String WEDDINGS_PATH = "/api/weddings";
+    private static final String COMMANDS_PATH = "/api/commands";
+    private static final String WEDDING_QUERY_PREFIX = "wedding=";
+    private static final String JSON_CONTENT_TYPE = "application/json";
+    private static final String[] LOCAL_HOST_NAMES = {"localhost", "127.0.0.1"};
+
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_BAD_REQUEST = 400;
+    private static final int HTTP_FORBIDDEN = 403;
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int HTTP_METHOD_NOT_ALLOWED = 405;
+    private static final int HTTP_UNSUPPORTED_MEDIA_TYPE = 415;
+    private static final int HTTP_INTERNAL_ERROR = 500;
+
+    // Requests wait on the model executor for most of their time, so a pool of platform threads needs many threads
+    private static final int MIN_REQUEST_THREADS = 16;
+
+    // Without TCP_NODELAY, each response waits for the client to acknowledge its headers before sending its body,
+    // which clients delay by up to 40 ms, and so limits each connection to a few dozen requests a second
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    static {
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+    }
+
+    private final Logic logic;
+    private final Executor modelExecutor;
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+
+    private volatile ApiSnapshot snapshot;
+
+    /**
+     * Creates an {@code ApiServer} on {@code port} of localhost, or on any free port if {@code port} is 0, that runs
+     * commands through {@code logic} on {@code modelExecutor}. The server does not accept requests until started.
+     *
+     * @throws IOException if the port cannot be bound.
+     */
+    public ApiServer(Logic logic, Executor modelExecutor, int port) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(modelExecutor);
+        this.logic = logic;
+        this.modelExecutor = modelExecutor;
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(PERSONS_PATH, exchange -> handle(exchange, this::handlePersons));
+        server.createContext(WEDDINGS_PATH, exchange -> handle(exchange, this::handleWeddings));
+        server.createContext(COMMANDS_PATH, exchange -> handle(exchange, this::handleCommand));
+        requestExecutor = createRequestExecutor();
+        server.setExecutor(requestExecutor);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving the API on http://localhost:" + getPort() + "/api/");
+    }
+
+    /**
+     * Stops accepting requests, and waits up to a second for the requests in progress to finish.
+     */
+    public void stop() {
+        server.stop(1);
+        requestExecutor.shutdownNow();
+        logger.info("Stopped serving the API");
+    }
+
+    /**
+     * Returns the port the server is bound to.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private static ExecutorService createRequestExecutor() {
+        try {
+            // Looked up at run time, as virtual threads need Java 21 but the app is built for Java 17
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.info("Virtual threads are not available, so API requests are handled by a pool of threads");
+            int threadCount = Math.max(MIN_REQUEST_THREADS, 4 * Runtime.getRuntime().availableProcessors());
+            return Executors.newFixedThreadPool(threadCount, runnable -> {
+                Thread thread = new Thread(runnable, "api-request");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Returns a snapshot of the address book that is no older than the address book was when this was called.
+     */
+    ApiSnapshot getSnapshot() {
+        ApiSnapshot current = snapshot;
+        if (current != null && current.getModificationCount() == logic.getAddressBookModificationCount()) {
+            return current;
+        }
+        return takeSnapshot();
+    }
+
+    /**
+     * Takes a snapshot of the address book on the calling thread. Requests that find the snapshot out of date at the
+     * same time wait for one of them to take it, so that a burst of reads after a change takes a single snapshot.
+     */
+    private synchronized ApiSnapshot takeSnapshot() {
+        // The count is read before the copy is taken, so the copy may be newer than the count but never older
+        long modificationCount = logic.getAddressBookModificationCount();
+        ApiSnapshot current = snapshot;
+        if (current != null && current.getModificationCount() == modificationCount) {
+            return current;
+        }
+
+        ApiSnapshot taken = new ApiSnapshot(logic.getAddressBookSnapshot(), modificationCount);
+        snapshot = taken;
+        return taken;
+    }
+
+    /**
+     * Runs {@code commandText} through the logic on the model executor, and returns its result.
+     * Commands that need a confirmation fail, so that the API cannot confirm or replace a command pending in the app.
+     */
+    private CommandResult execute(String commandText) throws CommandException, ParseException {
+        CompletableFuture<CommandResult> result = CompletableFuture.supplyAsync(() -> {
+            try {
+                return logic.executeWithoutConfirmation(commandText);
+            } catch (CommandException | ParseException e) {
+                throw new CompletionException(e);
+            }
+        }, modelExecutor);
+
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw (CommandException) e.getCause();
+            }
+            if (e.getCause() instanceof ParseException) {
+                throw (ParseException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private Response handlePersons(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("GET")) {
+            return Response.methodNotAllowed();
+        }
+        URI uri = exchange.getRequestURI();
+        if (!uri.getPath().equals(PERSONS_PATH)) {
+            return Response.notFound();
+        }
+
+        String query = uri.getQuery();
+        if (query == null) {
+            return new Response(HTTP_OK, getSnapshot().getPersonsResponse());
+        }
+        if (!query.startsWith(WEDDING_QUERY_PREFIX)
+                || !WeddingId.isValidWeddingId(query.substring(WEDDING_QUERY_PREFIX.length()))) {
+            return Response.error(HTTP_BAD_REQUEST, WeddingId.MESSAGE_CONSTRAINTS);
+        }
+        WeddingId weddingId = new WeddingId(query.substring(WEDDING_QUERY_PREFIX.length()));
+        return Response.json(HTTP_OK, getSnapshot().getPersons(weddingId));
+    }
+
+    private Response handleWeddings(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("GET")) {
+            return Response.methodNotAllowed();
+        }
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals(WEDDINGS_PATH)) {
+            return new Response(HTTP_OK, getSnapshot().getWeddingsResponse());
+        }
+        if (!path.startsWith(WEDDINGS_PATH + "/")) {
+            return Response.notFound();
+        }
+
+        String weddingIdText = path.substring(WEDDINGS_PATH.length() + 1);
+        if (!WeddingId.isValidWeddingId(weddingIdText)) {
+            return Response.error(HTTP_BAD_REQUEST, WeddingId.MESSAGE_CONSTRAINTS);
+        }
+        Map<String, Object> wedding = getSnapshot().getWedding(new WeddingId(weddingIdText));
+        return wedding == null ? Response.notFound() : Response.json(HTTP_OK, wedding);
+    }
+
+    private Response handleCommand(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("POST")) {
+            return Response.methodNotAllowed();
+        }
+        if (!exchange.getRequestURI().getPath().equals(COMMANDS_PATH)) {
+            return Response.notFound();
+        }
+        if (!isJson(exchange.getRequestHeaders().getFirst("Content-Type"))) {
+            return Response.error(HTTP_UNSUPPORTED_MEDIA_TYPE, MESSAGE_UNSUPPORTED_CONTENT_TYPE);
+        }
+
+        CommandRequest request;
+        try (InputStream body = exchange.getRequestBody()) {
+            String json = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+            request = JsonUtil.fromJsonString(json, CommandRequest.class);
+        } catch (IOException e) {
+            return Response.error(HTTP_BAD_REQUEST, MESSAGE_INVALID_COMMAND_REQUEST);
+        }
+        if (request == null || request.command == null) {
+            return Response.error(HTTP_BAD_REQUEST, MESSAGE_INVALID_COMMAND_REQUEST);
+        }
+
+        logger.info("----------------[API COMMAND][" + request.command + "]");
+        try {
+            CommandResult result = execute(request.command);
+            return Response.json(HTTP_OK, Map.of("feedback", result.getFeedbackToUser()));
+        } catch (CommandException | ParseException e) {
+            return Response.error(HTTP_BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns true if {@code contentType}, the value of a Content-Type header, is JSON.
+     */
+    private static boolean isJson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int parametersIndex = contentType.indexOf(';');
+        String mediaType = parametersIndex < 0 ? contentType : contentType.substring(0, parametersIndex);
+        return mediaType.trim().equalsIgnoreCase(JSON_CONTENT_TYPE);
+    }
+
+    /**
+     * Returns true if the request in {@code exchange} comes from a tool on this computer rather than a web page,
+     * i.e. it has no Origin header and is addressed to localhost or 127.0.0.1 on the port of this server.
+     */
+    private boolean isFromLocalTool(HttpExchange exchange) {
+        Headers headers = exchange.getRequestHeaders();
+        if (headers.containsKey("Origin")) {
+            return false;
+        }
+        String host = headers.getFirst("Host");
+        if (host == null) {
+            return false;
+        }
+        for (String localHostName : LOCAL_HOST_NAMES) {
+            if (host.equalsIgnoreCase(localHostName + ":" + getPort())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Answers the request in {@code exchange} with the response of {@code handler}, unless it is refused.
+     */
+    private void handle(HttpExchange exchange, Handler handler) throws IOException {
+        Response response;
+        try {
+            response = isFromLocalTool(exchange)
+                    ? handler.handle(exchange)
+                    : Response.error(HTTP_FORBIDDEN, MESSAGE_FORBIDDEN);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Could not handle the API request " + exchange.getRequestURI() + ": "
+                    + StringUtil.getDetails(e));
+            response = Response.error(HTTP_INTERNAL_ERROR, e.getMessage());
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status, response.body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response.body);
+        }
+    }
+
+    /**
+     * Handles the requests to one path of the API.
+     */
+    @FunctionalInterface
+    private interface Handler {
+        Response handle(HttpExchange exchange) throws IOException;
+    }
+
+    /**
+     * The body of a request to run a command.
+     */
+    private static class CommandRequest {
+        private String command;
+    }
+
+    /**
+     * A response to a request, with a JSON body.
+     */
+    private static class Response {
+        private final int status;
+        private final byte[] body;
+
+        Response(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static Response json(int status, Object body) throws IOException {
+            return new Response(status, ApiSnapshot.toResponse(body));
+        }
+
+        static Response error(int status, String message) throws IOException {
+            return json(status, Map.of("error", String.valueOf(message)));
+        }
+
+        static Response notFound() throws IOException {
+            return error(HTTP_NOT_FOUND, "Not found");
+        }
+
+        static Response methodNotAllowed() throws IOException {
+            return error(HTTP_METHOD_NOT_ALLOWED, "Method not allowed");
+        }
+    }
+
+}
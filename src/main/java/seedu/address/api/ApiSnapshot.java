@@ -0,0 +1,136 @@
+package seedu.address.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingId;
+import seedu.address.model.wedding.WeddingTask;
+
+/**
+ * A snapshot of the address book that requests to the API read from, which can be read by many threads at once.
+ * The responses listing all persons or all weddings are the same for every request until the address book changes,
+ * so each is made once per snapshot.
+ */
+class ApiSnapshot {
+
+    private final long modificationCount;
+    private final ReadOnlyAddressBook addressBook;
+
+    private volatile byte[] personsResponse;
+    private volatile byte[] weddingsResponse;
+
+    /**
+     * Creates a snapshot from {@code addressBook}, a copy of the address book that is not changed any more, which
+     * has had at least {@code modificationCount} changes made to it.
+     */
+    ApiSnapshot(ReadOnlyAddressBook addressBook, long modificationCount) {
+        this.addressBook = addressBook;
+        this.modificationCount = modificationCount;
+    }
+
+    long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the response listing all persons, in the order of the address book, as JSON.
+     */
+    byte[] getPersonsResponse() throws JsonProcessingException {
+        // Two threads may make the response at once, but they make the same response, so either may be kept
+        if (personsResponse == null) {
+            personsResponse = toResponse(addressBook.getPersonList().stream().map(ApiSnapshot::toJson)
+                    .collect(Collectors.toList()));
+        }
+        return personsResponse;
+    }
+
+    /**
+     * Returns the persons tagged to the wedding with {@code weddingId}, in the order of the address book.
+     */
+    List<Map<String, Object>> getPersons(WeddingId weddingId) {
+        Tag tag = new Tag(weddingId);
+        return addressBook.getPersonList().stream()
+                .filter(person -> person.getTags().contains(tag))
+                .map(ApiSnapshot::toJson)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the response listing all weddings without their tasks, in the order of the address book, as JSON.
+     */
+    byte[] getWeddingsResponse() throws JsonProcessingException {
+        if (weddingsResponse == null) {
+            weddingsResponse = toResponse(addressBook.getWeddingList().stream().map(ApiSnapshot::toJson)
+                    .collect(Collectors.toList()));
+        }
+        return weddingsResponse;
+    }
+
+    /**
+     * Returns the wedding with {@code weddingId} with its tasks, or null if there is no such wedding.
+     */
+    Map<String, Object> getWedding(WeddingId weddingId) {
+        Wedding wedding = addressBook.getWeddingById(weddingId);
+        if (wedding == null) {
+            return null;
+        }
+
+        List<Map<String, Object>> tasks = new ArrayList<>();
+        // The wedding is a copy only this snapshot has, which may load its tasks from storage when first asked
+        synchronized (wedding) {
+            for (WeddingTask task : wedding.getTasks()) {
+                Map<String, Object> json = new LinkedHashMap<>();
+                json.put("description", task.getDescription());
+                json.put("isDone", task.isDone());
+                tasks.add(json);
+            }
+        }
+        Map<String, Object> json = toJson(wedding);
+        json.put("tasks", tasks);
+        return json;
+    }
+
+    /**
+     * Returns {@code body} as the JSON of a response.
+     */
+    static byte[] toResponse(Object body) throws JsonProcessingException {
+        return JsonUtil.toJsonLine(body).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, Object> toJson(Person person) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("name", person.getName().fullName);
+        json.put("phone", person.getPhone().value);
+        json.put("email", person.getEmail().value);
+        json.put("role", person.getRole().value);
+        json.put("address", person.getAddress().value);
+        json.put("weddings", person.getTags().stream()
+                .map(tag -> tag.weddingId)
+                .sorted(Comparator.comparingInt(weddingId -> weddingId.valueInt))
+                .map(weddingId -> weddingId.value)
+                .collect(Collectors.toList()));
+        return json;
+    }
+
+    private static Map<String, Object> toJson(Wedding wedding) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("weddingId", wedding.getWeddingId().value);
+        json.put("name", wedding.getWeddingName().fullWeddingName);
+        json.put("date", wedding.getWeddingDate().value);
+        json.put("location", wedding.getWeddingLocation().venue);
+        return json;
+    }
+
+}
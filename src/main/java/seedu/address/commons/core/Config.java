@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.util.FsyncPolicy;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -17,6 +18,10 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isDataFilePrettyPrinted = true;
+    private boolean isDataFileCompressed = false;
+    private FsyncPolicy dataFileFsyncPolicy = FsyncPolicy.BATCHED;
+    private int apiServerPort = 0;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +39,50 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the data file is written indented over many lines, or false if it is written compactly.
+     */
+    public boolean isDataFilePrettyPrinted() {
+        return isDataFilePrettyPrinted;
+    }
+
+    public void setDataFilePrettyPrinted(boolean isDataFilePrettyPrinted) {
+        this.isDataFilePrettyPrinted = isDataFilePrettyPrinted;
+    }
+
+    /**
+     * Returns true if the data file is compressed with gzip when it is written as JSON.
+     */
+    public boolean isDataFileCompressed() {
+        return isDataFileCompressed;
+    }
+
+    public void setDataFileCompressed(boolean isDataFileCompressed) {
+        this.isDataFileCompressed = isDataFileCompressed;
+    }
+
+    /**
+     * Returns how often saves of the data file are forced onto the storage device.
+     */
+    public FsyncPolicy getDataFileFsyncPolicy() {
+        return dataFileFsyncPolicy;
+    }
+
+    public void setDataFileFsyncPolicy(FsyncPolicy dataFileFsyncPolicy) {
+        this.dataFileFsyncPolicy = dataFileFsyncPolicy;
+    }
+
+    /**
+     * Returns the port on localhost of the HTTP API to the address book, or 0 if the API is not served.
+     */
+    public int getApiServerPort() {
+        return apiServerPort;
+    }
+
+    public void setApiServerPort(int apiServerPort) {
+        this.apiServerPort = apiServerPort;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +96,17 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && isDataFilePrettyPrinted == otherConfig.isDataFilePrettyPrinted
+                && isDataFileCompressed == otherConfig.isDataFileCompressed
+                && dataFileFsyncPolicy == otherConfig.dataFileFsyncPolicy
+                && apiServerPort == otherConfig.apiServerPort;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, isDataFilePrettyPrinted, isDataFileCompressed,
+                dataFileFsyncPolicy, apiServerPort);
     }
 
     @Override
@@ -60,6 +114,10 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("isDataFilePrettyPrinted", isDataFilePrettyPrinted)
+                .add("isDataFileCompressed", isDataFileCompressed)
+                .add("dataFileFsyncPolicy", dataFileFsyncPolicy)
+                .add("apiServerPort", apiServerPort)
                 .toString();
     }
 
@@ -0,0 +1,17 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats the address book data file can be saved in.
+ * Data files in either format can be read, so changing the format converts the data file on the next save.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON, which can be edited by hand. */
+    JSON,
+    /** A compact binary format, which is much faster to read and write for large address books. */
+    BINARY,
+    /**
+     * A manifest with a file of persons and a file of tasks for each wedding, so that saves only rewrite the files
+     * that changed and the tasks of a wedding are only read once they are needed.
+     */
+    SHARDED
+}
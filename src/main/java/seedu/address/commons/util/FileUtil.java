@@ -1,10 +1,21 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
@@ -12,6 +23,13 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long MIN_MAPPED_FILE_SIZE = 1024 * 1024;
+    // Windows cannot replace a file while it is mapped, and a mapping is only released once its buffer is collected
+    private static final boolean CAN_REPLACE_MAPPED_FILES = !System.getProperty("os.name").startsWith("Windows");
+    // Windows cannot open a directory as a file, and keeps its entries on the storage device without being asked to
+    private static final boolean CAN_FORCE_DIRECTORIES = !System.getProperty("os.name").startsWith("Windows");
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,12 +90,156 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns the contents of a file as a buffer, without copying them onto the heap if the file is large.
+     * <p>
+     * Large files are mapped into memory, so that the operating system reads their contents in as the buffer is read,
+     * and can drop them again under memory pressure. Smaller files, and files on platforms that cannot replace a
+     * mapped file, are read onto the heap instead, as mapping has a fixed cost and keeps the file in use until the
+     * buffer is garbage collected. The buffer must not be modified.
+     *
+     * @throws IOException if the file cannot be read or is too large to be mapped.
+     */
+    public static ByteBuffer readFromFileMapped(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large to be read: " + file);
+            }
+            if (size < MIN_MAPPED_FILE_SIZE || !CAN_REPLACE_MAPPED_FILES) {
+                return ByteBuffer.wrap(Files.readAllBytes(file));
+            }
+            // The mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, so it is never left half written.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileAtomically(file, out -> out.write(bytes), false);
+    }
+
+    /**
+     * Writes the content written by {@code contentWriter} to a file, replacing the file atomically.
+     * Will create the file if it does not exist yet.
+     * <p>
+     * The content is written to a temporary file next to {@code file}, which is then moved over {@code file} in a
+     * single step, so that a crash while writing leaves either the old or the new content, never a mix of both.
+     * If {@code isForced} is true, the content is forced onto the storage device before it replaces {@code file},
+     * and the directory of {@code file} is forced after, so that the replacement itself survives a crash.
+     *
+     * @param contentWriter writes the content to the given buffered stream. It must not close the stream.
+     * @throws IOException if there was an error during writing, in which case {@code file} is left unchanged.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter, boolean isForced)
+            throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                 OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)) {
+                contentWriter.writeTo(out);
+                out.flush();
+                if (isForced) {
+                    channel.force(true);
+                }
+            }
+            moveAtomically(tempFile, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        if (isForced) {
+            forceDirectoryOf(file);
+        }
+    }
+
+    /**
+     * Forces the entries of the directory containing {@code file}, such as a file just moved there, onto the storage
+     * device. Does nothing on platforms that do not need it.
+     */
+    public static void forceDirectoryOf(Path file) throws IOException {
+        if (!CAN_FORCE_DIRECTORIES) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.toAbsolutePath().getParent(), StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target} in a single step, replacing {@code target} if it exists.
+     * Falls back to an ordinary move on file systems that cannot move files atomically.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Appends {@code bytes} to a file, creating the file if it does not exist yet.
+     * If {@code isForced} is true, the bytes are forced onto the storage device before this method returns.
+     */
+    public static void appendToFile(Path file, byte[] bytes, boolean isForced) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (isForced) {
+                channel.force(false);
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code contents}, from their position, start with the header of data compressed with gzip.
+     * Text files, such as JSON files, never start with these bytes.
+     */
+    public static boolean isGzipCompressed(ByteBuffer contents) {
+        int position = contents.position();
+        return contents.remaining() >= 2
+                && (contents.get(position) & 0xff) == (GZIPInputStream.GZIP_MAGIC & 0xff)
+                && (contents.get(position + 1) & 0xff) == (GZIPInputStream.GZIP_MAGIC >>> 8);
+    }
+
+    /**
+     * Returns a writer of the content written by {@code contentWriter}, compressed with gzip.
+     */
+    public static ContentWriter gzipCompressed(ContentWriter contentWriter) {
+        return out -> {
+            // Closing the gzip stream releases its compressor, but must leave the stream written to open
+            OutputStream unclosedOut = new FilterOutputStream(out) {
+                @Override
+                public void write(byte[] bytes, int offset, int length) throws IOException {
+                    out.write(bytes, offset, length);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            };
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(unclosedOut, BUFFER_SIZE)) {
+                contentWriter.writeTo(gzipOut);
+            }
+        };
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
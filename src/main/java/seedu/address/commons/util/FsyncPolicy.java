@@ -0,0 +1,44 @@
+package seedu.address.commons.util;
+
+/**
+ * How often data written to a file is forced onto the storage device, instead of being left for the operating system
+ * to write out in its own time. Data that is not forced may be lost if the computer crashes or loses power, even
+ * after it has been written.
+ */
+public enum FsyncPolicy {
+    /** Every write is forced, so that nothing written is lost in a crash. */
+    ALWAYS,
+    /**
+     * A write appended to a file is forced only if no append was forced within the last
+     * {@link #BATCH_INTERVAL_MILLIS} milliseconds, so that a crash loses at most the writes of that interval while
+     * bursts of writes are forced only once. Files replaced in full are still forced every time, as a crash could
+     * otherwise leave a replaced file empty rather than merely out of date.
+     */
+    BATCHED,
+    /** No write is forced, leaving it to the operating system. */
+    NEVER;
+
+    public static final long BATCH_INTERVAL_MILLIS = 1000;
+
+    /**
+     * Returns true if a write appended to a file should be forced, given that the last forced append happened
+     * {@code millisSinceLastForce} milliseconds ago.
+     */
+    public boolean shouldForce(long millisSinceLastForce) {
+        switch (this) {
+        case ALWAYS:
+            return true;
+        case BATCHED:
+            return millisSinceLastForce >= BATCH_INTERVAL_MILLIS;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if a file replaced in full should be forced before it replaces the old file.
+     */
+    public boolean shouldForceReplacedFiles() {
+        return this != NEVER;
+    }
+}
@@ -3,18 +3,25 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -29,6 +36,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    private static final int DECOMPRESSION_BUFFER_SIZE = 64 * 1024;
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
@@ -101,6 +109,51 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Returns a parser that reads the JSON file at {@code filePath} token by token, without copying large files onto
+     * the heap, as described in {@link FileUtil#readFromFileMapped}. Files compressed with gzip are decompressed as
+     * they are parsed.
+     * Values read through the parser are converted in the same way as by {@link #fromJsonString}.
+     * The parser should be closed by the caller.
+     */
+    public static JsonParser createJsonParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        ByteBuffer contents = FileUtil.readFromFileMapped(filePath);
+        if (FileUtil.isGzipCompressed(contents)) {
+            return objectMapper.getFactory().createParser(
+                    new GZIPInputStream(new ByteBufferInputStream(contents), DECOMPRESSION_BUFFER_SIZE));
+        }
+        if (contents.hasArray()) {
+            return objectMapper.getFactory().createParser(contents.array(),
+                    contents.arrayOffset() + contents.position(), contents.remaining());
+        }
+        return objectMapper.getFactory().createParser(new ByteBufferInputStream(contents));
+    }
+
+    /**
+     * Returns a generator that writes JSON tokens to {@code out} as UTF-8, indented over many lines if
+     * {@code isPrettyPrinted} is true. The generator must be closed by the caller, which flushes it to {@code out}
+     * but leaves {@code out} open.
+     */
+    public static JsonGenerator createJsonGenerator(OutputStream out, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (isPrettyPrinted) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
+    /**
+     * Returns a writer of instances of {@code type} to a {@link JsonGenerator}, in the layout of the generator.
+     * The writer looks up how to serialize {@code type} once, so it should be kept and reused across writes.
+     * It does not flush the generator after each instance.
+     */
+    public static ObjectWriter createValueWriter(Class<?> type) {
+        return objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -111,6 +164,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line,
+     * without any whitespace between the tokens.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -6,6 +6,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +41,55 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if the {@code sentence} contains any of the {@code foldedWords} as a full word, ignoring case.
+     * Each word of the sentence is looked up in the set, so the cost does not grow with the number of words sought.
+     *   <br>examples:<pre>
+     *       containsAnyWordIgnoreCase("ABc def", foldWords(List.of("DEF", "xyz"))) == true
+     *       containsAnyWordIgnoreCase("ABc def", foldWords(List.of("AB"))) == false //not a full word match
+     *       </pre>
+     * @param sentence cannot be null
+     * @param foldedWords cannot be null, the words sought as returned by {@link #foldWords(Collection)}
+     */
+    public static boolean containsAnyWordIgnoreCase(String sentence, Set<String> foldedWords) {
+        requireNonNull(sentence);
+        requireNonNull(foldedWords);
+
+        for (String wordInSentence : sentence.split("\\s+")) {
+            if (!wordInSentence.isEmpty() && foldedWords.contains(foldCase(wordInSentence))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the {@code words}, trimmed and mapped by {@link #foldCase(String)}, to be sought with
+     * {@link #containsAnyWordIgnoreCase(String, Set)}.
+     * @param words cannot be null
+     */
+    public static Set<String> foldWords(Collection<String> words) {
+        requireNonNull(words);
+        return words.stream().map(word -> foldCase(word.trim())).collect(Collectors.toSet());
+    }
+
+    /**
+     * Maps {@code word} to a key that is equal for two words exactly when they are equal ignoring case,
+     * as defined by {@link String#equalsIgnoreCase(String)}.
+     *   <br>examples:<pre>
+     *       foldCase("ABc") == "abc"
+     *       foldCase("abc").equals(foldCase("AbC")) == true
+     *       </pre>
+     * @param word cannot be null
+     */
+    public static String foldCase(String word) {
+        requireNonNull(word);
+        StringBuilder folded = new StringBuilder(word.length());
+        word.codePoints().forEach(codePoint ->
+                folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return folded.toString();
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +26,26 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands, one per line, as a single change and returns the result of the batch.
+     * Every line is parsed before any command is run, and the data is saved once, after the last command.
+     * @param commandTexts The commands, as they would be entered by the user.
+     * @return the result of the batch, with the result of each command.
+     * @throws CommandException If any command fails, in which case none of the commands are applied.
+     * @throws ParseException If any line cannot be parsed, in which case no command is run.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException;
+
+    /**
+     * Executes the command for a client other than the user of the app, and returns the result.
+     * The command awaiting the user's confirmation, if any, is left pending, and cannot be confirmed by the client.
+     * @param commandText The command as sent by the client.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution, or the command needs a confirmation.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    CommandResult executeWithoutConfirmation(String commandText) throws CommandException, ParseException;
+
     /**
      * Returns the AddressBook.
      *
@@ -31,6 +53,20 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a copy of the address book as it is now. Safe to call from any thread.
+     *
+     * @see seedu.address.model.Model#getAddressBookSnapshot()
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Returns the number of changes made to the address book data so far. Safe to call from any thread.
+     *
+     * @see seedu.address.model.Model#getAddressBookModificationCount()
+     */
+    long getAddressBookModificationCount();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
@@ -50,4 +86,11 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Makes {@code listener} be called with the message to show for each failure to save the data that is found
+     * after the command that changed it has returned, e.g. by a write in the background. It is called on the thread
+     * that found the failure.
+     */
+    void setSaveFailureListener(Consumer<String> listener);
 }
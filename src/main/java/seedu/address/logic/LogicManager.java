@@ -3,6 +3,9 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -14,11 +17,13 @@ import seedu.address.logic.commands.ConfirmCommand;
 import seedu.address.logic.commands.ConfirmationManager;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.BatchCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.exceptions.TaskLoadingException;
 import seedu.address.storage.Storage;
 
 /**
@@ -30,6 +35,12 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String TASK_LOADING_ERROR_FORMAT =
+            "Could not load wedding tasks due to the following error: %s";
+
+    public static final String MESSAGE_CONFIRMATION_UNAVAILABLE =
+            "Commands that need a confirmation can only be run in the app.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -54,26 +65,97 @@ public class LogicManager implements Logic {
             ConfirmationManager.getInstance().clearPendingCommand(); // Clear any pending 'y' confirmation.
         }
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        return executeCommand(command);
+    }
+
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException {
+        logger.info("----------------[BATCH][" + commandTexts.size() + " lines]");
+
+        ConfirmationManager.getInstance().clearPendingCommand();
+        Command command = new BatchCommandParser().parseLines(commandTexts);
+        return executeCommand(command);
+    }
+
+    @Override
+    public CommandResult executeWithoutConfirmation(String commandText) throws CommandException, ParseException {
+        logger.info("----------------[CLIENT COMMAND][" + commandText + "]");
+
+        Command command = addressBookParser.parseCommand(commandText);
+        if (command instanceof ConfirmCommand) {
+            throw new CommandException(MESSAGE_CONFIRMATION_UNAVAILABLE);
+        }
+        // The pending command is the user's, so the client neither clears it nor leaves its own in its place
+        ConfirmationManager confirmationManager = ConfirmationManager.getInstance();
+        Command pendingCommand = confirmationManager.getPendingCommand();
+        try {
+            CommandResult commandResult = executeCommand(command);
+            if (commandResult.isRequiresConfirmation()) {
+                throw new CommandException(commandResult.getFeedbackToUser() + "\n" + MESSAGE_CONFIRMATION_UNAVAILABLE);
+            }
+            return commandResult;
+        } finally {
+            confirmationManager.setPendingCommand(pendingCommand);
+        }
+    }
+
+    /**
+     * Executes {@code command} on the model and saves the data if the command changed it.
+     */
+    private CommandResult executeCommand(Command command) throws CommandException {
+        CommandResult commandResult;
+        long modificationCount = model.getAddressBookModificationCount();
+        // Readers on other threads see the changes of a command all at once, including tasks changed in place
+        Lock writeLock = model.getAddressBookLock().writeLock();
+        writeLock.lock();
+        try {
+            commandResult = command.execute(model);
+        } catch (TaskLoadingException e) {
+            throw new CommandException(String.format(TASK_LOADING_ERROR_FORMAT, e.getMessage()), e);
+        } finally {
+            writeLock.unlock();
+        }
+
+        // Queries such as list, find and help leave the data unchanged, so there is nothing new to save.
+        if (model.getAddressBookModificationCount() == modificationCount) {
+            return commandResult;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    /**
+     * Returns the message to show the user for {@code failure} to save the data.
+     */
+    private static String getSaveFailureMessage(IOException failure) {
+        if (failure instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, failure.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, failure.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return model.getAddressBookSnapshot();
+    }
+
+    @Override
+    public long getAddressBookModificationCount() {
+        return model.getAddressBookModificationCount();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -98,4 +180,9 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveFailureListener(Consumer<String> listener) {
+        storage.setWriteFailureListener(failure -> listener.accept(getSaveFailureMessage(failure)));
+    }
 }
@@ -40,14 +40,14 @@ public class AddTaskCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        Wedding wedding = model.getFilteredWeddingList().stream()
-                .filter(w -> w.getWeddingId().equals(weddingId))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(String.format(Messages.MESSAGE_WEDDING_NOT_FOUND,
-                        weddingId.value)));
+        Wedding wedding = model.getWeddingById(weddingId);
+        if (wedding == null) {
+            throw new CommandException(String.format(Messages.MESSAGE_WEDDING_NOT_FOUND, weddingId.value));
+        }
 
         WeddingTask newTask = new WeddingTask(taskDescription);
         wedding.addTask(newTask);
+        model.indicateWeddingModified(wedding);
         return new CommandResult(String.format(MESSAGE_SUCCESS, weddingId.value, newTask), false, false, false, true);
     }
 
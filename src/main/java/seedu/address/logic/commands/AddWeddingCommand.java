@@ -5,6 +5,9 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingDate;
+import seedu.address.model.wedding.WeddingLocation;
+import seedu.address.model.wedding.WeddingName;
 
 /**
  * Adds a Wedding event to the contact book.
@@ -22,32 +25,50 @@ public class AddWeddingCommand extends Command {
 
     public static final String MESSAGE_DUPLICATE_WEDDING = "This wedding already exists in the contact book";
 
-    private final Wedding toAdd;
+    private final WeddingName weddingName;
+    private final WeddingDate weddingDate;
+    private final WeddingLocation weddingLocation;
 
     /**
-     * Creates an AddWeddingCommand to add the specified {@code Wedding}.
+     * Creates an AddWeddingCommand to add a wedding with the given details.
+     * The wedding is given its ID by the address book when the command is executed.
      */
-    public AddWeddingCommand(Wedding wedding) {
-        requireNonNull(wedding);
-        toAdd = wedding;
+    public AddWeddingCommand(WeddingName weddingName, WeddingDate weddingDate, WeddingLocation weddingLocation) {
+        requireNonNull(weddingName);
+        requireNonNull(weddingDate);
+        requireNonNull(weddingLocation);
+        this.weddingName = weddingName;
+        this.weddingDate = weddingDate;
+        this.weddingLocation = weddingLocation;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        if (model.hasWedding(toAdd)) {
+        if (model.hasWedding(weddingName, weddingDate, weddingLocation)) {
             throw new CommandException(MESSAGE_DUPLICATE_WEDDING);
         }
 
+        Wedding toAdd = new Wedding(model.allocateWeddingId(), weddingName, weddingDate, weddingLocation);
         model.addWedding(toAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
     }
 
     @Override
     public boolean equals(Object other) {
-        return other == this
-                || (other instanceof AddWeddingCommand
-                && toAdd.equals(((AddWeddingCommand) other).toAdd));
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddWeddingCommand)) {
+            return false;
+        }
+
+        AddWeddingCommand otherAddWeddingCommand = (AddWeddingCommand) other;
+        return weddingName.equals(otherAddWeddingCommand.weddingName)
+                && weddingDate.equals(otherAddWeddingCommand.weddingDate)
+                && weddingLocation.equals(otherAddWeddingCommand.weddingLocation);
     }
 }
@@ -0,0 +1,133 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * Runs a batch of commands, such as the lines of a text file, one after another as a single change to the
+ * contact book: either every command succeeds, or the contact book is left as it was before the batch.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a text file, one per line. "
+            + "Empty lines and lines starting with '#' are skipped. "
+            + "If any command fails, none of the commands are applied.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/vendors.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands.";
+    public static final String MESSAGE_LINE_RESULT = "Line %1$d: %2$s";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d failed, so none of the commands were applied: %2$s";
+    public static final String MESSAGE_LINE_NOT_CONFIRMED = "Line %1$d needs confirmation by a '"
+            + ConfirmCommand.COMMAND_WORD + "' on the next line, so none of the commands were applied: %2$s";
+
+    private final List<Integer> lineNumbers;
+    private final List<Command> commands;
+
+    /**
+     * Creates a BatchCommand to run {@code commands} in order, which were given on the lines numbered
+     * {@code lineNumbers}.
+     */
+    public BatchCommand(List<Integer> lineNumbers, List<Command> commands) {
+        requireNonNull(lineNumbers);
+        requireNonNull(commands);
+        assert lineNumbers.size() == commands.size();
+        this.lineNumbers = new ArrayList<>(lineNumbers);
+        this.commands = new ArrayList<>(commands);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // Persons are immutable, but the tasks of weddings are changed in place, so weddings are copied
+        List<Person> personsBefore = new ArrayList<>(model.getAddressBook().getPersonList());
+        List<Wedding> weddingsBefore = new ArrayList<>();
+        for (Wedding wedding : model.getAddressBook().getWeddingList()) {
+            weddingsBefore.add(wedding.copy());
+        }
+        int nextWeddingIdBefore = model.getAddressBook().getNextWeddingId();
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, commands.size()));
+        CommandException failure = null;
+        try {
+            for (int i = 0; i < commands.size() && failure == null; i++) {
+                int lineNumber = lineNumbers.get(i);
+                CommandResult result;
+                try {
+                    result = commands.get(i).execute(model);
+                } catch (CommandException ce) {
+                    failure = new CommandException(String.format(MESSAGE_LINE_FAILED, lineNumber, ce.getMessage()),
+                            ce);
+                    continue;
+                }
+                boolean isConfirmedNext = i + 1 < commands.size() && commands.get(i + 1) instanceof ConfirmCommand;
+                if (result.isRequiresConfirmation() && !isConfirmedNext) {
+                    failure = new CommandException(String.format(MESSAGE_LINE_NOT_CONFIRMED, lineNumber,
+                            result.getFeedbackToUser()));
+                    continue;
+                }
+                feedback.append('\n').append(String.format(MESSAGE_LINE_RESULT, lineNumber,
+                        result.getFeedbackToUser()));
+            }
+        } catch (RuntimeException e) {
+            rollBack(model, personsBefore, weddingsBefore, nextWeddingIdBefore);
+            throw e;
+        } finally {
+            ConfirmationManager.getInstance().clearPendingCommand();
+        }
+
+        if (failure != null) {
+            rollBack(model, personsBefore, weddingsBefore, nextWeddingIdBefore);
+            throw failure;
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Restores the contact book of {@code model} to the given persons and weddings, and the next wedding id to
+     * {@code nextWeddingId}, as they were before the batch.
+     */
+    private static void rollBack(Model model, List<Person> persons, List<Wedding> weddings, int nextWeddingId) {
+        AddressBook addressBook = new AddressBook();
+        // Forced duplicates that were in the contact book before the batch are kept
+        addressBook.setPersons(persons, true);
+        addressBook.setWeddings(weddings);
+        addressBook.setNextWeddingId(nextWeddingId);
+        model.setAddressBook(addressBook);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return lineNumbers.equals(otherBatchCommand.lineNumbers) && commands.equals(otherBatchCommand.commands);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("lineNumbers", lineNumbers)
+                .add("commands", commands)
+                .toString();
+    }
+}
@@ -41,14 +41,14 @@ public class DeleteTaskCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        Wedding wedding = model.getFilteredWeddingList().stream()
-                .filter(w -> w.getWeddingId().equals(weddingId))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(String.format(Messages.MESSAGE_WEDDING_NOT_FOUND,
-                        weddingId.value)));
+        Wedding wedding = model.getWeddingById(weddingId);
+        if (wedding == null) {
+            throw new CommandException(String.format(Messages.MESSAGE_WEDDING_NOT_FOUND, weddingId.value));
+        }
 
         try {
             WeddingTask removed = wedding.removeTask(taskIndex - 1);
+            model.indicateWeddingModified(wedding);
             return new CommandResult(String.format(MESSAGE_SUCCESS, weddingId.value, removed),
                     false, false, false, true);
         } catch (IndexOutOfBoundsException e) {
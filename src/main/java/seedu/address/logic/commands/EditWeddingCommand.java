@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_WEDDINGS;
 
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -62,14 +61,12 @@ public class EditWeddingCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Wedding> lastShownList = model.getFilteredWeddingList();
 
         // Find the wedding by its ID
-        Wedding weddingToEdit = lastShownList.stream()
-                .filter(wedding -> wedding.getWeddingId().equals(index))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(String.format(Messages.MESSAGE_WEDDING_NOT_FOUND,
-                        index.value)));
+        Wedding weddingToEdit = model.getWeddingById(index);
+        if (weddingToEdit == null) {
+            throw new CommandException(String.format(Messages.MESSAGE_WEDDING_NOT_FOUND, index.value));
+        }
 
         Wedding editedWedding = createEditedWedding(weddingToEdit, editWeddingDescriptor);
 
@@ -49,11 +49,10 @@ public class FilterCommand extends Command {
         requireNonNull(model);
 
         // Check if wedding id exists and get the wedding object
-        Wedding matchingWedding = model.getAddressBook().getWeddingList().stream()
-                .filter(wedding -> wedding.getWeddingId().equals(weddingIdToFilter))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(String.format(Messages.MESSAGE_WEDDING_NOT_FOUND,
-                        weddingIdToFilter.value)));
+        Wedding matchingWedding = model.getWeddingById(weddingIdToFilter);
+        if (matchingWedding == null) {
+            throw new CommandException(String.format(Messages.MESSAGE_WEDDING_NOT_FOUND, weddingIdToFilter.value));
+        }
 
         // Update person list using the TagMatchesPredicate.
         model.updateFilteredPersonList(new TagMatchesPredicate(weddingIdToFilter));
@@ -4,50 +4,73 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.PartialMatchPredicate;
 import seedu.address.model.person.RoleContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in the contact book whose name or role contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * In partial match mode, persons whose name, role, email or address has a word that starts with, contains or nearly
+ * equals any of the keywords are listed instead, most relevant first.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String PARTIAL_MATCH_FLAG = "-p";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names or roles contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "With " + PARTIAL_MATCH_FLAG + ", also matches partially typed or misspelt names, roles, emails and "
+            + "addresses, listing the closest matches first.\n"
+            + "Parameters: [" + PARTIAL_MATCH_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie"
-            + "Example: " + COMMAND_WORD + " florist photographer";
+            + "Example: " + COMMAND_WORD + " florist photographer"
+            + "Example: " + COMMAND_WORD + " " + PARTIAL_MATCH_FLAG + " phot";
 
     private final List<String> keywords;
-    private final Predicate<Person> predicate;
+    private final boolean isPartialMatch;
 
     /**
      * Constructs a FindCommand using the given keywords.
-     * Combines the name and role predicates with an OR condition.
+     * A person matches if their name OR role contains any keyword.
      *
      * @param keywords The list of keywords to search for.
      */
     public FindCommand(List<String> keywords) {
+        this(keywords, false);
+    }
+
+    /**
+     * Constructs a FindCommand using the given keywords.
+     *
+     * @param keywords The list of keywords to search for.
+     * @param isPartialMatch If {@code true}, keywords also match by prefix, substring or approximately.
+     */
+    public FindCommand(List<String> keywords, boolean isPartialMatch) {
         requireNonNull(keywords);
         // Store a copy of the keywords
         this.keywords = new ArrayList<>(keywords);
-        // Create the composite predicate - match if name OR role contains any keyword
-        this.predicate = new NameContainsKeywordsPredicate(keywords).or(new RoleContainsKeywordsPredicate(keywords));
+        this.isPartialMatch = isPartialMatch;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        // The predicates test each person as they are when the list is filtered, so that persons added or edited
+        // later are still listed exactly when they match.
+        if (isPartialMatch) {
+            PartialMatchPredicate predicate = new PartialMatchPredicate(keywords, model.searchPersons(keywords));
+            model.updateFilteredPersonList(predicate, predicate.mostRelevantFirst());
+        } else {
+            model.updateFilteredPersonList(new NameContainsKeywordsPredicate(keywords)
+                    .or(new RoleContainsKeywordsPredicate(keywords)));
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -64,13 +87,15 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return keywords.equals(otherFindCommand.keywords);
+        return keywords.equals(otherFindCommand.keywords)
+                && isPartialMatch == otherFindCommand.isPartialMatch;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("keywords", keywords)
+                .add("isPartialMatch", isPartialMatch)
                 .toString();
     }
 }
@@ -37,11 +37,10 @@ public class ListTaskCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        Wedding wedding = model.getFilteredWeddingList().stream()
-                .filter(w -> w.getWeddingId().equals(weddingId))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(String.format(Messages.MESSAGE_WEDDING_NOT_FOUND,
-                        weddingId.value)));
+        Wedding wedding = model.getWeddingById(weddingId);
+        if (wedding == null) {
+            throw new CommandException(String.format(Messages.MESSAGE_WEDDING_NOT_FOUND, weddingId.value));
+        }
 
         List<WeddingTask> tasks = wedding.getTasks();
 
@@ -60,9 +60,7 @@ public class TagCommand extends Command {
         }
 
         // Check if wedding id exists in the system.
-        boolean weddingExists = model.getFilteredWeddingList().stream()
-                .anyMatch(wedding -> wedding.getWeddingId().equals(weddingId));
-        if (!weddingExists) {
+        if (model.getWeddingById(weddingId) == null) {
             throw new CommandException(String.format(Messages.MESSAGE_WEDDING_NOT_FOUND, weddingId.value));
         }
 
@@ -43,11 +43,10 @@ public class UnmarkTaskCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        Wedding wedding = model.getFilteredWeddingList().stream()
-                .filter(w -> w.getWeddingId().equals(weddingId))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(
-                        String.format(Messages.MESSAGE_WEDDING_NOT_FOUND, weddingId.value)));
+        Wedding wedding = model.getWeddingById(weddingId);
+        if (wedding == null) {
+            throw new CommandException(String.format(Messages.MESSAGE_WEDDING_NOT_FOUND, weddingId.value));
+        }
 
         try {
             WeddingTask taskToUnmark = wedding.getTasks().get(taskIndex - 1);
@@ -58,6 +57,7 @@ public class UnmarkTaskCommand extends Command {
             }
 
             taskToUnmark.unmark();
+            model.indicateWeddingModified(wedding);
 
             String resultMsg = String.format(MESSAGE_SUCCESS,
                     taskToUnmark,
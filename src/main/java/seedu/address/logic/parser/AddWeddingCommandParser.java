@@ -9,7 +9,6 @@ import java.util.stream.Stream;
 
 import seedu.address.logic.commands.AddWeddingCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.wedding.Wedding;
 import seedu.address.model.wedding.WeddingDate;
 import seedu.address.model.wedding.WeddingLocation;
 import seedu.address.model.wedding.WeddingName;
@@ -47,9 +46,7 @@ public class AddWeddingCommandParser implements Parser<AddWeddingCommand> {
         WeddingDate weddingDate = ParserUtil.parseWeddingDate(argMultimap.getValue(PREFIX_WEDDING_DATE).get());
         WeddingLocation location = ParserUtil.parseWeddingLocation(argMultimap.getValue(PREFIX_WEDDING_LOCATION).get());
 
-        Wedding wedding = new Wedding(weddingName, weddingDate, location);
-
-        return new AddWeddingCommand(wedding);
+        return new AddWeddingCommand(weddingName, weddingDate, location);
     }
 
     /**
@@ -0,0 +1,94 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object.
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_FILE_NOT_READ = "Could not read the batch file %1$s: %2$s";
+    public static final String MESSAGE_NESTED_BATCH = "A batch cannot run another batch.";
+    public static final String MESSAGE_NO_COMMANDS = "The batch has no commands to run.";
+
+    /**
+     * Parses the given {@code String} of arguments, the path of a text file with one command per line, in the
+     * context of the BatchCommand and returns a BatchCommand object for execution.
+     * @throws ParseException if the file cannot be read, or any of its lines is not a valid command
+     */
+    @Override
+    public BatchCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+
+        List<String> lines;
+        try {
+            Path filePath = Paths.get(trimmedArgs);
+            lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (IOException | InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_FILE_NOT_READ, trimmedArgs, e.getMessage()), e);
+        }
+        return parseLines(lines);
+    }
+
+    /**
+     * Parses every line of {@code lines} into a command, skipping empty lines and lines starting with
+     * {@link #COMMENT_PREFIX}, and returns a BatchCommand that runs them in order.
+     * All lines are parsed before any command is run, so the errors of every invalid line are reported together.
+     * @throws ParseException if any of the lines is not a valid command
+     */
+    public BatchCommand parseLines(List<String> lines) throws ParseException {
+        AddressBookParser addressBookParser = new AddressBookParser();
+        List<Integer> lineNumbers = new ArrayList<>();
+        List<Command> commands = new ArrayList<>();
+        StringBuilder errors = new StringBuilder();
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            int lineNumber = i + 1;
+            try {
+                // Checked before parsing, as parsing a batch would read its file
+                if (line.split("\\s+", 2)[0].equals(BatchCommand.COMMAND_WORD)) {
+                    throw new ParseException(MESSAGE_NESTED_BATCH);
+                }
+                commands.add(addressBookParser.parseCommand(line));
+                lineNumbers.add(lineNumber);
+            } catch (ParseException pe) {
+                if (errors.length() > 0) {
+                    errors.append('\n');
+                }
+                errors.append(String.format(BatchCommand.MESSAGE_LINE_RESULT, lineNumber, pe.getMessage()));
+            }
+        }
+
+        if (errors.length() > 0) {
+            throw new ParseException(errors.toString());
+        }
+        if (commands.isEmpty()) {
+            throw new ParseException(MESSAGE_NO_COMMANDS);
+        }
+        return new BatchCommand(lineNumbers, commands);
+    }
+
+}
@@ -26,6 +26,14 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         List<String> keywords = Arrays.asList(trimmedArgs.split("\\s+"));
-        return new FindCommand(keywords);
+        if (!keywords.get(0).equals(FindCommand.PARTIAL_MATCH_FLAG)) {
+            return new FindCommand(keywords);
+        }
+
+        if (keywords.size() == 1) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new FindCommand(keywords.subList(1, keywords.size()), true);
     }
 }
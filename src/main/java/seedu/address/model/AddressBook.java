@@ -3,6 +3,7 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
@@ -10,6 +11,11 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.wedding.UniqueWeddingList;
 import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingDate;
+import seedu.address.model.wedding.WeddingId;
+import seedu.address.model.wedding.WeddingLocation;
+import seedu.address.model.wedding.WeddingName;
+import seedu.address.model.wedding.exceptions.WeddingNotFoundException;
 
 /**
  * Wraps all data at the address-book level
@@ -20,6 +26,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniqueWeddingList weddings;
 
+    // Number of changes made to the data of this address book, so that unchanged data need not be saved again.
+    // Only the thread that changes the address book increments it, but other threads may read it.
+    private volatile long modificationCount;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -52,6 +62,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        modificationCount++;
     }
 
     /**
@@ -63,10 +74,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons, boolean force) {
         this.persons.setPersons(persons, force);
+        modificationCount++;
     }
 
     public void setWeddings(List<Wedding> weddings) {
         this.weddings.setWeddings(weddings);
+        modificationCount++;
     }
 
     /**
@@ -81,6 +94,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(newData);
         setPersons(newData.getPersonList(), true); // Bypass duplicate check during load.
         setWeddings(newData.getWeddingList());
+        setNextWeddingId(newData.getNextWeddingId());
     }
 
     //// person-level operations
@@ -93,6 +107,20 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the persons in the address book that are tagged with {@code weddingId}.
+     */
+    public List<Person> getPersonsTaggedWith(WeddingId weddingId) {
+        return persons.getPersonsTaggedWith(weddingId);
+    }
+
+    /**
+     * Returns the persons in the address book matching any of {@code terms} partially, with their relevance.
+     */
+    public Map<Person, Integer> searchPersons(List<String> terms) {
+        return persons.searchPersons(terms);
+    }
+
     /**
      * Adds a person to the address book in normal mode.
      * Delegates to addPerson with force set to false.
@@ -109,6 +137,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p, boolean force) {
         persons.add(p, force);
+        modificationCount++;
     }
 
     /**
@@ -122,6 +151,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void forceSetPerson(Person target, Person editedPerson) {
         // Delegate the force update to the UniquePersonList.
         persons.forceSetPerson(target, editedPerson);
+        modificationCount++;
     }
 
     /**
@@ -133,6 +163,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        modificationCount++;
     }
 
     /**
@@ -141,6 +172,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        modificationCount++;
     }
 
     //// wedding-level operations
@@ -153,12 +185,50 @@ public class AddressBook implements ReadOnlyAddressBook {
         return weddings.contains(wedding);
     }
 
+    /**
+     * Returns true if a wedding with the given name, date and location exists in the address book.
+     */
+    public boolean hasWedding(WeddingName weddingName, WeddingDate weddingDate, WeddingLocation weddingLocation) {
+        return weddings.contains(weddingName, weddingDate, weddingLocation);
+    }
+
+    /**
+     * Returns the wedding with the given {@code weddingId}, or {@code null} if there is no such wedding.
+     */
+    @Override
+    public Wedding getWeddingById(WeddingId weddingId) {
+        return weddings.getWeddingById(weddingId);
+    }
+
     /**
      * Adds a wedding to the address book.
      * The wedding must not already exist in the address book.
      */
     public void addWedding(Wedding wedding) {
         weddings.add(wedding);
+        modificationCount++;
+    }
+
+    /**
+     * Returns a new wedding ID, which no wedding in this address book has had, for a new wedding to be added.
+     * Safe to call from any thread, and never returns the same ID twice.
+     */
+    public WeddingId allocateWeddingId() {
+        return weddings.allocateWeddingId();
+    }
+
+    @Override
+    public int getNextWeddingId() {
+        return weddings.getNextWeddingId();
+    }
+
+    /**
+     * Makes {@code nextWeddingId} the number of the ID that the next new wedding is given, e.g. as saved with the
+     * address book, or one more than the largest ID of the weddings in the address book if that is larger.
+     */
+    public void setNextWeddingId(int nextWeddingId) {
+        weddings.setNextWeddingId(nextWeddingId);
+        modificationCount++;
     }
 
     /**
@@ -169,6 +239,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setWedding(Wedding target, Wedding editedWedding) {
         weddings.setWedding(target, editedWedding);
+        modificationCount++;
     }
 
     /**
@@ -177,6 +248,30 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeWedding(Wedding wedding) {
         weddings.remove(wedding);
+        modificationCount++;
+    }
+
+    /**
+     * Records that the tasks of {@code wedding}, which are changed in place, were changed.
+     * {@code wedding} itself must be in the address book, as changes to any other wedding are never saved.
+     *
+     * @throws WeddingNotFoundException if {@code wedding} is not in the address book.
+     */
+    public void indicateWeddingModified(Wedding wedding) {
+        requireNonNull(wedding);
+        if (!weddings.containsInstance(wedding)) {
+            throw new WeddingNotFoundException();
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of changes made to the data of this address book so far.
+     * Two equal counts read around an operation mean that the operation left the data unchanged.
+     * Safe to call from any thread, e.g. to check whether a snapshot of the address book is out of date.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
 
@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingId;
+
+/**
+ * A copy of an address book as it was when the copy was taken, unaffected by later changes to the address book,
+ * e.g. to be saved or read on another thread. The copy must be taken on the thread that changes the address book.
+ * Persons are immutable, so they are shared with the address book. Weddings are copied, as their tasks are
+ * changed in place, but tasks that are still left in storage are not loaded to be copied.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Wedding> weddings;
+    private final int nextWeddingId;
+
+    /**
+     * Creates a snapshot of the current contents of {@code source}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(new ArrayList<>(source.getPersonList())));
+
+        List<Wedding> weddingCopies = new ArrayList<>(source.getWeddingList().size());
+        for (Wedding wedding : source.getWeddingList()) {
+            weddingCopies.add(wedding.copy());
+        }
+        weddings = FXCollections.unmodifiableObservableList(FXCollections.observableList(weddingCopies));
+        nextWeddingId = source.getNextWeddingId();
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Wedding> getWeddingList() {
+        return weddings;
+    }
+
+    @Override
+    public Wedding getWeddingById(WeddingId weddingId) {
+        for (Wedding wedding : weddings) {
+            if (wedding.getWeddingId().equals(weddingId)) {
+                return wedding;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int getNextWeddingId() {
+        return nextWeddingId;
+    }
+
+}
@@ -1,6 +1,10 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -8,10 +12,18 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingDate;
 import seedu.address.model.wedding.WeddingId;
+import seedu.address.model.wedding.WeddingLocation;
+import seedu.address.model.wedding.WeddingName;
 
 /**
  * The API of the Model component.
+ * <p>
+ * The address book is changed by one thread at a time, holding the write lock of {@link #getAddressBookLock()}.
+ * Other threads read it through {@link #getAddressBookSnapshot()}, or through the queries on the address book,
+ * which hold the read lock. The filtered lists are views for the GUI, and may only be used by the thread that
+ * changes the address book.
  */
 public interface Model {
     /** {@code Predicate} that always evaluate to true */
@@ -53,14 +65,42 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
-    /** Returns the AddressBook */
+    /**
+     * Returns the AddressBook, which may only be read by the thread that changes it, or while holding the read lock
+     * of {@link #getAddressBookLock()}.
+     */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a copy of the address book as it is now, unaffected by later changes, e.g. to be saved, exported or
+     * searched on another thread. Safe to call from any thread.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Returns the lock that keeps the address book from being read on other threads while it is changed.
+     * Every change to the address book holds the write lock, which is reentrant. Changes made over several calls,
+     * or to the tasks of a wedding in place, must hold it for all of them, so that no reader sees them half made.
+     */
+    ReadWriteLock getAddressBookLock();
+
+    /**
+     * Returns the number of changes made to the address book data so far.
+     * The address book needs to be saved only when the count has changed since it was last saved.
+     */
+    long getAddressBookModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the persons in the address book with a name, role, email or address word matching any of
+     * {@code terms} exactly, by prefix, by substring or approximately, with the relevance of each person.
+     */
+    Map<Person, Integer> searchPersons(List<String> terms);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -96,18 +136,41 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * The persons are listed in address book order.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate},
+     * and lists the persons in the order given by {@code comparator}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
     boolean hasWedding(Wedding wedding);
 
+    /**
+     * Returns true if a wedding with the given name, date and location exists in the address book.
+     */
+    boolean hasWedding(WeddingName weddingName, WeddingDate weddingDate, WeddingLocation weddingLocation);
+
     void addWedding(Wedding wedding);
 
+    /**
+     * Returns the wedding with the given {@code weddingId} in the address book, or {@code null} if there is none.
+     * The lookup does not depend on the size of the address book.
+     */
     Wedding getWeddingById(WeddingId weddingId);
 
     void deleteWedding(Wedding wedding);
 
+    /**
+     * Returns a new wedding ID for a wedding to be added to the address book, which is never returned again.
+     * Safe to call from any thread.
+     */
+    WeddingId allocateWeddingId();
+
     /**
      * Replaces the given wedding {@code target} with {@code editedWedding}.
      * {@code target} must exist in the address book.
@@ -116,6 +179,12 @@ public interface Model {
      */
     void setWedding(Wedding target, Wedding editedWedding);
 
+    /**
+     * Records that the tasks of the given {@code wedding} were added, removed, marked or unmarked in place.
+     * {@code wedding} must exist in the address book.
+     */
+    void indicateWeddingModified(Wedding wedding);
+
     /**
      * Returns an unmodifiable view of the list of {@code Wedding} backed by the internal list.
      */
@@ -5,7 +5,13 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -17,17 +23,26 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingDate;
 import seedu.address.model.wedding.WeddingId;
+import seedu.address.model.wedding.WeddingLocation;
+import seedu.address.model.wedding.WeddingName;
 
 /**
  * Represents the in-memory model of the address book data.
+ * <p>
+ * Changes to the address book hold the write lock of a {@code ReentrantReadWriteLock}, and queries and snapshots
+ * from other threads hold its read lock. The lock is reentrant, as a command holds the write lock while it calls
+ * the methods here.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
+    private final ReadWriteLock addressBookLock = new ReentrantReadWriteLock();
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Wedding> filteredWeddings;
     private final SortedList<Wedding> sortedWeddings;
 
@@ -43,6 +58,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         filteredWeddings = new FilteredList<>(this.addressBook.getWeddingList());
         sortedWeddings = new SortedList<>(filteredWeddings);
     }
@@ -90,7 +106,7 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        changeAddressBook(() -> this.addressBook.resetData(addressBook));
     }
 
     @Override
@@ -98,27 +114,74 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return readAddressBook(() -> new AddressBookSnapshot(addressBook));
+    }
+
+    @Override
+    public ReadWriteLock getAddressBookLock() {
+        return addressBookLock;
+    }
+
+    /**
+     * Returns the result of {@code query}, which reads the address book, holding the read lock.
+     */
+    private <T> T readAddressBook(Supplier<T> query) {
+        Lock readLock = addressBookLock.readLock();
+        readLock.lock();
+        try {
+            return query.get();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Runs {@code change}, which changes the address book, holding the write lock.
+     */
+    private void changeAddressBook(Runnable change) {
+        Lock writeLock = addressBookLock.writeLock();
+        writeLock.lock();
+        try {
+            change.run();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return addressBook.hasPerson(person);
+        return readAddressBook(() -> addressBook.hasPerson(person));
+    }
+
+    @Override
+    public Map<Person, Integer> searchPersons(List<String> terms) {
+        requireNonNull(terms);
+        return readAddressBook(() -> addressBook.searchPersons(terms));
     }
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        changeAddressBook(() -> addressBook.removePerson(target));
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
+        changeAddressBook(() -> addressBook.addPerson(person));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void forceAddPerson(Person person) {
         // Call the overloaded method in your addressBook with force = true.
-        addressBook.addPerson(person, true);
+        changeAddressBook(() -> addressBook.addPerson(person, true));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -128,7 +191,7 @@ public class ModelManager implements Model {
      */
     @Override
     public void forceSetPerson(Person target, Person editedPerson) {
-        addressBook.forceSetPerson(target, editedPerson);
+        changeAddressBook(() -> addressBook.forceSetPerson(target, editedPerson));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -136,7 +199,7 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        changeAddressBook(() -> addressBook.setPerson(target, editedPerson));
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -147,13 +210,22 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        // Without a comparator, the sorted list keeps the order of the filtered list.
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(comparator);
     }
 
     @Override
@@ -178,34 +250,48 @@ public class ModelManager implements Model {
     @Override
     public boolean hasWedding(Wedding wedding) {
         requireNonNull(wedding);
-        return addressBook.hasWedding(wedding);
+        return readAddressBook(() -> addressBook.hasWedding(wedding));
+    }
+
+    @Override
+    public boolean hasWedding(WeddingName weddingName, WeddingDate weddingDate, WeddingLocation weddingLocation) {
+        return readAddressBook(() -> addressBook.hasWedding(weddingName, weddingDate, weddingLocation));
     }
 
     @Override
     public void addWedding(Wedding wedding) {
-        addressBook.addWedding(wedding);
+        changeAddressBook(() -> addressBook.addWedding(wedding));
         updateFilteredWeddingList(w -> true); // Show all after adding
     }
 
+    @Override
+    public WeddingId allocateWeddingId() {
+        // The sequence of IDs is atomic, so no lock is needed
+        return addressBook.allocateWeddingId();
+    }
+
     @Override
     public void setWedding(Wedding target, Wedding editedWedding) {
         requireAllNonNull(target, editedWedding);
 
-        addressBook.setWedding(target, editedWedding);
+        changeAddressBook(() -> addressBook.setWedding(target, editedWedding));
+    }
+
+    @Override
+    public void indicateWeddingModified(Wedding wedding) {
+        requireNonNull(wedding);
+        changeAddressBook(() -> addressBook.indicateWeddingModified(wedding));
     }
 
     @Override
     public Wedding getWeddingById(WeddingId weddingId) {
         requireNonNull(weddingId);
-        return addressBook.getWeddingList().stream()
-                .filter(wedding -> wedding.getWeddingId().equals(weddingId))
-                .findFirst()
-                .orElse(null);
+        return readAddressBook(() -> addressBook.getWeddingById(weddingId));
     }
 
     @Override
     public void deleteWedding(Wedding wedding) {
-        addressBook.removeWedding(wedding);
+        changeAddressBook(() -> addressBook.removeWedding(wedding));
     }
 
     @Override
@@ -239,25 +325,19 @@ public class ModelManager implements Model {
 
     /**
      * Creates a comparator that compares weddings by their wedding date.
+     * Dates are compared as the day counts kept by {@code WeddingDate}, without parsing or allocation.
      */
     private Comparator<Wedding> createWeddingDateComparator() {
-        return Comparator.comparing(wedding ->
-                java.time.LocalDate.parse(
-                        wedding.getWeddingDate().toString(),
-                        java.time.format.DateTimeFormatter.ofPattern("dd-MMM-yyyy")
-                )
-        );
+        return (first, second) -> Long.compare(first.getWeddingDate().toEpochDay(),
+                second.getWeddingDate().toEpochDay());
     }
 
     /**
      * Creates a comparator that compares weddings by their wedding ID.
-     * This extracts the numeric part of the ID (after the leading "W")
-     * and compares them as integers.
+     * This compares the numeric part of the IDs (after the leading "W") kept by {@code WeddingId}.
      */
     private Comparator<Wedding> createWeddingIdComparator() {
-        return Comparator.comparingInt(wedding ->
-                Integer.parseInt(wedding.getWeddingId().value.substring(1))
-        );
+        return (first, second) -> Integer.compare(first.getWeddingId().valueInt, second.getWeddingId().valueInt);
     }
 
     public ObservableList<Wedding> getSortedWeddingList(Comparator<Wedding> comparator) {
@@ -288,7 +368,7 @@ public class ModelManager implements Model {
 
         // Update the person in the address book.
         try {
-            addressBook.setPerson(person, updatedPerson);
+            changeAddressBook(() -> addressBook.setPerson(person, updatedPerson));
         } catch (PersonNotFoundException e) {
             throw new AssertionError("The target person cannot be missing", e);
         }
@@ -299,8 +379,9 @@ public class ModelManager implements Model {
     @Override
     public void removeTagFromAllContacts(Tag tag) {
         requireNonNull(tag);
-        for (Person person : addressBook.getPersonList()) {
-            if (person.getTags().contains(tag)) {
+        // Only visit the persons carrying the tag, using the inverted tag index of the address book.
+        changeAddressBook(() -> {
+            for (Person person : addressBook.getPersonsTaggedWith(tag.getWeddingId())) {
                 Person updatedPerson = person.removeTag(tag);
                 try {
                     addressBook.setPerson(person, updatedPerson);
@@ -308,7 +389,7 @@ public class ModelManager implements Model {
                     throw new AssertionError("The target person cannot be missing", e);
                 }
             }
-        }
+        });
 
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
@@ -325,7 +406,7 @@ public class ModelManager implements Model {
         requireNonNull(tag);
 
         Person updatedPerson = personToUntag.removeTag(tag);
-        addressBook.setPerson(personToUntag, updatedPerson);
+        changeAddressBook(() -> addressBook.setPerson(personToUntag, updatedPerson));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 }
@@ -3,6 +3,7 @@ package seedu.address.model;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingId;
 
 /**
  * Unmodifiable view of an address book
@@ -16,4 +17,15 @@ public interface ReadOnlyAddressBook {
     ObservableList<Person> getPersonList();
     ObservableList<Wedding> getWeddingList();
 
+    /**
+     * Returns the wedding with the given {@code weddingId}, or {@code null} if there is no such wedding.
+     */
+    Wedding getWeddingById(WeddingId weddingId);
+
+    /**
+     * Returns the number of the ID that the next new wedding in the address book is given. It is larger than the IDs
+     * of all weddings in the address book, and of the weddings deleted from it.
+     */
+    int getNextWeddingId();
+
 }
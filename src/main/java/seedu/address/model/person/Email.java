@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's email in the contact book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -31,6 +33,11 @@ public class Email {
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
 
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(
+            "^[a-zA-Z0-9](?!.*\\.\\.)([a-zA-Z0-9+_.-]*[a-zA-Z0-9])?" // local-part
+            + "@(?:[a-zA-Z0-9](?:[a-zA-Z0-9-]*[a-zA-Z0-9])?\\.)+" // domain part
+            + "[a-zA-Z]{2,}$"); // final TLD (e.g. .com, .sg)
+
     public final String value;
 
     /**
@@ -51,10 +58,7 @@ public class Email {
         if (email == null) {
             throw new NullPointerException("Email cannot be null");
         }
-        String regex = "^[a-zA-Z0-9](?!.*\\.\\.)([a-zA-Z0-9+_.-]*[a-zA-Z0-9])?" // local-part
-                + "@(?:[a-zA-Z0-9](?:[a-zA-Z0-9-]*[a-zA-Z0-9])?\\.)+" // domain part
-                + "[a-zA-Z]{2,}$"; // final TLD (e.g. .com, .sg)
-        return email.matches(regex);
+        return EMAIL_PATTERN.matcher(email).matches();
     }
 
     @Override
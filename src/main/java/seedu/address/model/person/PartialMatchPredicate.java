@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s name, role, email or address has a word matching any of the search terms exactly,
+ * by prefix, by substring or approximately, and orders persons by how closely they match.
+ * <p>
+ * The relevance of the persons found by a search of the address book is given up front. Any other person, such as
+ * one added or edited after the search, is scored against the terms when first tested, so that the predicate stays
+ * correct for as long as it filters the list.
+ */
+public class PartialMatchPredicate implements Predicate<Person> {
+    private final List<String> terms;
+    private final Map<Person, Integer> relevance;
+
+    /**
+     * Creates a predicate that matches persons to {@code terms}, where {@code searchResult} holds the relevance of
+     * the persons found by searching the address book for the terms.
+     */
+    public PartialMatchPredicate(List<String> terms, Map<Person, Integer> searchResult) {
+        requireAllNonNull(terms, searchResult);
+        this.terms = new ArrayList<>(terms);
+        relevance = new HashMap<>(searchResult);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return getRelevance(person) > 0;
+    }
+
+    /**
+     * Returns a comparator that orders the persons that match the terms more closely first.
+     */
+    public Comparator<Person> mostRelevantFirst() {
+        return Comparator.comparingInt((Person person) -> getRelevance(person)).reversed();
+    }
+
+    private int getRelevance(Person person) {
+        return relevance.computeIfAbsent(person, unused -> PersonSearchIndex.relevanceOf(person, terms));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PartialMatchPredicate)) {
+            return false;
+        }
+
+        PartialMatchPredicate otherPartialMatchPredicate = (PartialMatchPredicate) other;
+        return terms.equals(otherPartialMatchPredicate.terms);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("terms", terms).toString();
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
@@ -16,6 +17,8 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -24,6 +27,12 @@ public class Person {
     private final Address address;
     private final Set<Tag> tags = new HashSet<>();
 
+    // Normalized form of the name, computed once and used for identity checks
+    private final String normalizedName;
+
+    // Persons are immutable and are hashed heavily by the indexes of UniquePersonList, so the hash is computed once
+    private final int hashCode;
+
     /**
      * Every field must be present and not null.
      */
@@ -35,6 +44,9 @@ public class Person {
         this.role = role;
         this.address = address;
         this.tags.addAll(tags);
+        this.normalizedName = normalize(name.fullName);
+        // use this method for custom fields hashing instead of implementing your own
+        this.hashCode = Objects.hash(name, phone, email, role, address, this.tags);
     }
 
     public Name getName() {
@@ -65,6 +77,15 @@ public class Person {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the normalized name used to determine person identity.
+     *
+     * @see #isSamePerson(Person)
+     */
+    String getNormalizedName() {
+        return normalizedName;
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
@@ -76,17 +97,15 @@ public class Person {
         if (otherPerson == null) {
             return false;
         }
-        String normalizedThisName = normalize(name.toString());
-        String normalizedOtherName = normalize(otherPerson.getName().toString());
-        return normalizedThisName.equals(normalizedOtherName);
+        return normalizedName.equals(otherPerson.normalizedName);
     }
 
     /**
      * Helper method to normalize a name by trimming leading/trailing spaces,
      * converting to lower case and replacing multiple spaces with a single space
      */
-    private String normalize(String s) {
-        return s.trim().toLowerCase().replaceAll("\\s+", " ");
+    private static String normalize(String s) {
+        return WHITESPACE_PATTERN.matcher(s.trim().toLowerCase()).replaceAll(" ");
     }
 
     /**
@@ -141,8 +160,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, role, address, tags);
+        return hashCode;
     }
 
     @Override
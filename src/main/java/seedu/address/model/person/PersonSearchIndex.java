@@ -0,0 +1,317 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index over the words in the name, role, email and address of persons, for looking up partially typed words.
+ * A search term matches a word that it equals, is a prefix of, is a substring of, or is within a small edit distance
+ * of, in decreasing order of relevance.
+ *
+ * Prefixes are looked up in an ordered vocabulary of words. Substring and approximate matches only verify the words
+ * that share trigrams with the term, so a search never visits every word or every person.
+ */
+class PersonSearchIndex {
+
+    public static final int SCORE_EXACT = 4;
+    public static final int SCORE_PREFIX = 3;
+    public static final int SCORE_SUBSTRING = 2;
+    public static final int SCORE_APPROXIMATE = 1;
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("(?U)[^\\p{Alnum}]+");
+    private static final int GRAM_LENGTH = 3;
+    private static final char PADDING = '$';
+
+    // Vocabulary of the index, ordered so that the words with a common prefix are adjacent, with the id of each word.
+    private final NavigableMap<String, Integer> wordIds = new TreeMap<>();
+
+    // Words and the persons containing them, with the number of list entries equal to each person, by word id.
+    // Ids of words that drop out of the vocabulary are reused.
+    private final List<String> words = new ArrayList<>();
+    private final List<Map<Person, Integer>> personsByWordId = new ArrayList<>();
+    private final Deque<Integer> unusedWordIds = new ArrayDeque<>();
+
+    // Ids of the words containing each trigram of the word padded at both ends.
+    private final Map<String, Set<Integer>> wordIdsByTrigram = new HashMap<>();
+
+    /**
+     * Adds the words of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : wordsOf(person)) {
+            Integer wordId = wordIds.get(word);
+            if (wordId == null) {
+                wordId = addWord(word);
+            }
+            personsByWordId.get(wordId).merge(person, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Removes the words of {@code person} from the index. {@code person} must have been added before.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : wordsOf(person)) {
+            int wordId = wordIds.get(word);
+            Map<Person, Integer> persons = personsByWordId.get(wordId);
+            persons.computeIfPresent(person, (indexedPerson, count) -> count == 1 ? null : count - 1);
+            if (persons.isEmpty()) {
+                removeWord(wordId);
+            }
+        }
+    }
+
+    private int addWord(String word) {
+        int wordId;
+        if (unusedWordIds.isEmpty()) {
+            wordId = words.size();
+            words.add(word);
+            personsByWordId.add(new LinkedHashMap<>());
+        } else {
+            wordId = unusedWordIds.pop();
+            words.set(wordId, word);
+            personsByWordId.set(wordId, new LinkedHashMap<>());
+        }
+        wordIds.put(word, wordId);
+        for (String trigram : paddedTrigramsOf(word)) {
+            wordIdsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(wordId);
+        }
+        return wordId;
+    }
+
+    private void removeWord(int wordId) {
+        String word = words.get(wordId);
+        for (String trigram : paddedTrigramsOf(word)) {
+            Set<Integer> trigramWordIds = wordIdsByTrigram.get(trigram);
+            trigramWordIds.remove(wordId);
+            if (trigramWordIds.isEmpty()) {
+                wordIdsByTrigram.remove(trigram);
+            }
+        }
+        wordIds.remove(word);
+        words.set(wordId, null);
+        personsByWordId.set(wordId, null);
+        unusedWordIds.push(wordId);
+    }
+
+    /**
+     * Returns the persons matching any of {@code terms}, with the relevance of each.
+     * The relevance of a person is the sum, over the terms, of the score of the best match of the term.
+     */
+    public Map<Person, Integer> search(List<String> terms) {
+        requireNonNull(terms);
+        Map<Person, Integer> relevance = new HashMap<>();
+        for (String term : terms) {
+            for (String query : splitIntoWords(term)) {
+                Map<Person, Integer> queryScores = scorePersons(matchWords(query));
+                if (relevance.isEmpty()) {
+                    // Spares copying the scores when there is a single query, the common case when typing.
+                    relevance = queryScores;
+                    continue;
+                }
+                for (Map.Entry<Person, Integer> queryScore : queryScores.entrySet()) {
+                    relevance.merge(queryScore.getKey(), queryScore.getValue(), Integer::sum);
+                }
+            }
+        }
+        return relevance;
+    }
+
+    /**
+     * Returns the relevance of {@code person} to {@code terms} as {@link #search(List)} gives it, or 0 if the person
+     * does not match any of the terms. The terms are compared with the words of the person rather than looked up in
+     * an index, so the person need not have been added to one.
+     */
+    static int relevanceOf(Person person, List<String> terms) {
+        requireNonNull(person);
+        requireNonNull(terms);
+        Set<String> personWords = wordsOf(person);
+        int relevance = 0;
+        for (String term : terms) {
+            for (String query : splitIntoWords(term)) {
+                int bestScore = 0;
+                for (String word : personWords) {
+                    bestScore = Math.max(bestScore, scoreWord(query, word));
+                }
+                relevance += bestScore;
+            }
+        }
+        return relevance;
+    }
+
+    /**
+     * Returns the score of the match of {@code query} with {@code word}, or 0 if they do not match.
+     */
+    private static int scoreWord(String query, String word) {
+        if (word.equals(query)) {
+            return SCORE_EXACT;
+        }
+        if (word.startsWith(query)) {
+            return SCORE_PREFIX;
+        }
+        if (query.length() >= GRAM_LENGTH && word.contains(query)) {
+            return SCORE_SUBSTRING;
+        }
+        int maxEdits = maxEditsFor(query);
+        return maxEdits > 0 && isWithinEditDistance(query, word, maxEdits) ? SCORE_APPROXIMATE : 0;
+    }
+
+    /**
+     * Returns the persons containing the words in {@code wordScores}, with the best score among their words.
+     */
+    private Map<Person, Integer> scorePersons(Map<Integer, Integer> wordScores) {
+        List<Map.Entry<Integer, Integer>> bestWordsFirst = new ArrayList<>(wordScores.entrySet());
+        bestWordsFirst.sort(Map.Entry.<Integer, Integer>comparingByValue().reversed());
+        int expectedPersons = 0;
+        for (Map.Entry<Integer, Integer> wordScore : bestWordsFirst) {
+            expectedPersons += personsByWordId.get(wordScore.getKey()).size();
+        }
+
+        // As the best words come first, the first score seen for a person is their best one.
+        Map<Person, Integer> personScores = new HashMap<>(expectedPersons * 4 / 3 + 1);
+        for (Map.Entry<Integer, Integer> wordScore : bestWordsFirst) {
+            for (Person person : personsByWordId.get(wordScore.getKey()).keySet()) {
+                personScores.putIfAbsent(person, wordScore.getValue());
+            }
+        }
+        return personScores;
+    }
+
+    /**
+     * Returns the ids of the words in the vocabulary matching {@code query}, with the score of each match.
+     */
+    private Map<Integer, Integer> matchWords(String query) {
+        Map<Integer, Integer> matches = new HashMap<>();
+        for (Map.Entry<String, Integer> entry
+                : wordIds.subMap(query, true, query + Character.MAX_VALUE, false).entrySet()) {
+            matches.put(entry.getValue(), entry.getKey().equals(query) ? SCORE_EXACT : SCORE_PREFIX);
+        }
+
+        if (query.length() >= GRAM_LENGTH) {
+            // Every word containing the query contains all of its trigrams, so the rarest one bounds the candidates.
+            Set<Integer> candidates = null;
+            for (String trigram : trigramsOf(query)) {
+                Set<Integer> trigramWordIds = wordIdsByTrigram.getOrDefault(trigram, Collections.emptySet());
+                if (candidates == null || trigramWordIds.size() < candidates.size()) {
+                    candidates = trigramWordIds;
+                }
+            }
+            for (int wordId : candidates) {
+                if (words.get(wordId).contains(query)) {
+                    matches.putIfAbsent(wordId, SCORE_SUBSTRING);
+                }
+            }
+        }
+
+        int maxEdits = maxEditsFor(query);
+        if (maxEdits > 0) {
+            // Each edit changes at most GRAM_LENGTH of the padded trigrams, so an approximate match shares the rest.
+            Set<String> queryTrigrams = paddedTrigramsOf(query);
+            int minSharedTrigrams = Math.max(1, queryTrigrams.size() - GRAM_LENGTH * maxEdits);
+            // Counted only for the words in the postings visited, as searches may run on several threads at once
+            Map<Integer, Integer> sharedTrigrams = new HashMap<>();
+            for (String trigram : queryTrigrams) {
+                for (int wordId : wordIdsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                    if (sharedTrigrams.merge(wordId, 1, Integer::sum) == minSharedTrigrams
+                            && !matches.containsKey(wordId)
+                            && isWithinEditDistance(query, words.get(wordId), maxEdits)) {
+                        matches.put(wordId, SCORE_APPROXIMATE);
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of edits allowed for an approximate match of {@code query}.
+     * Short queries are too ambiguous to be matched approximately.
+     */
+    private static int maxEditsFor(String query) {
+        if (query.length() < 4) {
+            return 0;
+        }
+        return query.length() < 8 ? 1 : 2;
+    }
+
+    /**
+     * Returns true if the Levenshtein distance between {@code first} and {@code second} is at most {@code maxEdits}.
+     */
+    static boolean isWithinEditDistance(String first, String second, int maxEdits) {
+        if (Math.abs(first.length() - second.length()) > maxEdits) {
+            return false;
+        }
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxEdits) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()] <= maxEdits;
+    }
+
+    /**
+     * Returns the distinct case-folded words in the name, role, email and address of {@code person}.
+     */
+    private static Set<String> wordsOf(Person person) {
+        Set<String> words = new HashSet<>();
+        for (String field : new String[] {person.getName().fullName, person.getRole().value,
+                person.getEmail().value, person.getAddress().value}) {
+            words.addAll(splitIntoWords(field));
+        }
+        return words;
+    }
+
+    private static List<String> splitIntoWords(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : WORD_SEPARATOR.split(text)) {
+            if (!word.isEmpty()) {
+                words.add(StringUtil.foldCase(word));
+            }
+        }
+        return words;
+    }
+
+    private static Set<String> trigramsOf(String word) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+            trigrams.add(word.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    private static Set<String> paddedTrigramsOf(String word) {
+        return trigramsOf(PADDING + "" + PADDING + word + PADDING + PADDING);
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's phone number in the contact book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -13,6 +15,8 @@ public class Phone {
             "Phone numbers should only contain numbers, a space, and can include a '+' prefix for country code.\n"
             + "The number should have at least 3 digits and maximum 32 characters total (including '+' and spaces).";
     public static final String VALIDATION_REGEX = "^(\\+\\d[\\d ]*|[\\d ]+)$";
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String value;
 
     /**
@@ -53,7 +57,7 @@ public class Phone {
             return false;
         }
 
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
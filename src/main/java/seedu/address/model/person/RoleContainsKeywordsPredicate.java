@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -11,15 +12,19 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class RoleContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final Set<String> foldedKeywords;
 
+    /**
+     * Creates a predicate that tests a person against {@code keywords}.
+     */
     public RoleContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        foldedKeywords = StringUtil.foldWords(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getRole().value, keyword));
+        return StringUtil.containsAnyWordIgnoreCase(person.getRole().value, foldedKeywords);
     }
 
     @Override
@@ -3,14 +3,24 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.person.exceptions.RequiresConfirmationException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.wedding.WeddingId;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -29,12 +39,62 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Number of persons in internalList per normalized name; kept in sync with every mutation of internalList.
+    // Counts (rather than a set) are needed as forced duplicates may share the same normalized name.
+    private final Map<String, Integer> normalizedNameCounts = new HashMap<>();
+
+    // Inverted tag index: the persons tagged with each wedding id, with the number of list entries equal to each.
+    private final Map<WeddingId, Map<Person, Integer>> taggedPersonCounts = new HashMap<>();
+
+    // Partial-match index, built on the first partial-match search and kept in sync from then on.
+    // Until then it is null, so that lists that are never searched this way do not pay for it.
+    // Searches may run on several threads at once, so it is built while holding the lock of this list.
+    private PersonSearchIndex searchIndex;
+
+    // Last known position of each person instance in internalList. Positions are only hints and are verified
+    // before use, so that replacing a person does not require a scan of the whole list.
+    private final Map<Person, Integer> positions = new IdentityHashMap<>();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return normalizedNameCounts.containsKey(toCheck.getNormalizedName());
+    }
+
+    /**
+     * Returns the persons in the list that are tagged with {@code weddingId}.
+     * Runs in time proportional to the number of such persons rather than the size of the list.
+     */
+    public List<Person> getPersonsTaggedWith(WeddingId weddingId) {
+        requireNonNull(weddingId);
+        List<Person> taggedPersons = new ArrayList<>();
+        taggedPersonCounts.getOrDefault(weddingId, Collections.emptyMap()).forEach((person, count) -> {
+            for (int i = 0; i < count; i++) {
+                taggedPersons.add(person);
+            }
+        });
+        return taggedPersons;
+    }
+
+    /**
+     * Returns the persons in the list whose name, role, email or address has a word that matches any of
+     * {@code terms} exactly, by prefix, by substring or approximately, with the relevance of each person.
+     * Persons with a higher relevance match the terms more closely.
+     */
+    public Map<Person, Integer> searchPersons(List<String> terms) {
+        requireAllNonNull(terms);
+        return getSearchIndex().search(terms);
+    }
+
+    private synchronized PersonSearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            PersonSearchIndex newSearchIndex = new PersonSearchIndex();
+            internalList.forEach(newSearchIndex::add);
+            searchIndex = newSearchIndex;
+        }
+        return searchIndex;
     }
 
     /**
@@ -59,6 +119,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new RequiresConfirmationException();
         }
         internalList.add(toAdd);
+        positions.put(toAdd, internalList.size() - 1);
+        indexPerson(toAdd);
     }
 
     /**
@@ -69,12 +131,12 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void forceSetPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
         // Bypass duplicate checks and update the person.
-        internalList.set(index, editedPerson);
+        replaceAt(index, editedPerson);
     }
 
     /**
@@ -85,7 +147,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -94,7 +156,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        replaceAt(index, editedPerson);
     }
 
     /**
@@ -103,14 +165,22 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = internalList.remove(index);
+        positions.remove(removed);
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+        unindexPerson(removed);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
     }
 
     /**
@@ -122,10 +192,14 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons, boolean force) {
         requireAllNonNull(persons);
-        if (!force && !personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        if (!force) {
+            List<Person> duplicates = findDuplicatePersons(persons);
+            if (!duplicates.isEmpty()) {
+                throw new DuplicatePersonException(duplicates);
+            }
         }
         internalList.setAll(persons);
+        rebuildIndex();
     }
 
     /**
@@ -173,16 +247,83 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Replaces the person at {@code index} with {@code editedPerson}, updating the name index accordingly.
+     */
+    private void replaceAt(int index, Person editedPerson) {
+        Person replaced = internalList.set(index, editedPerson);
+        positions.remove(replaced);
+        positions.put(editedPerson, index);
+        unindexPerson(replaced);
+        indexPerson(editedPerson);
+    }
+
+    /**
+     * Returns the index of {@code target} in the list, or -1 if it is not in the list.
+     */
+    private int indexOf(Person target) {
+        Integer position = positions.get(target);
+        if (position != null && position < internalList.size() && internalList.get(position) == target) {
+            return position;
+        }
+        return internalList.indexOf(target);
+    }
+
+    private void indexPerson(Person person) {
+        normalizedNameCounts.merge(person.getNormalizedName(), 1, Integer::sum);
+        for (Tag tag : person.getTags()) {
+            addPosting(taggedPersonCounts, tag.getWeddingId(), person);
+        }
+        if (searchIndex != null) {
+            searchIndex.add(person);
+        }
+    }
+
+    private void unindexPerson(Person person) {
+        normalizedNameCounts.computeIfPresent(person.getNormalizedName(), (name, count) ->
+                count == 1 ? null : count - 1);
+        for (Tag tag : person.getTags()) {
+            removePosting(taggedPersonCounts, tag.getWeddingId(), person);
+        }
+        if (searchIndex != null) {
+            searchIndex.remove(person);
+        }
+    }
+
+    private static <K> void addPosting(Map<K, Map<Person, Integer>> index, K key, Person person) {
+        index.computeIfAbsent(key, unused -> new LinkedHashMap<>()).merge(person, 1, Integer::sum);
+    }
+
+    private static <K> void removePosting(Map<K, Map<Person, Integer>> index, K key, Person person) {
+        Map<Person, Integer> postings = index.get(key);
+        postings.computeIfPresent(person, (postedPerson, count) -> count == 1 ? null : count - 1);
+        if (postings.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private void rebuildIndex() {
+        normalizedNameCounts.clear();
+        taggedPersonCounts.clear();
+        searchIndex = null;
+        positions.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+            indexPerson(internalList.get(i));
+        }
+    }
+
+    /**
+     * Returns the persons in {@code persons} that have the same identity as an earlier person in the list,
+     * in the order they appear. Returns an empty list if {@code persons} contains only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    public static List<Person> findDuplicatePersons(List<Person> persons) {
+        Set<String> seenNames = new HashSet<>();
+        List<Person> duplicates = new ArrayList<>();
+        for (Person person : persons) {
+            if (!seenNames.add(person.getNormalizedName())) {
+                duplicates.add(person);
             }
         }
-        return true;
+        return duplicates;
     }
 }
@@ -1,11 +1,38 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+
+    private final List<Person> duplicates;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        this.duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} reporting the persons that collide with an earlier person.
+     */
+    public DuplicatePersonException(List<Person> duplicates) {
+        super("Operation would result in duplicate persons: " + duplicates.stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", ")));
+        this.duplicates = Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Returns the persons that caused this exception, or an empty list if they are not known.
+     */
+    public List<Person> getDuplicates() {
+        return duplicates;
     }
 }
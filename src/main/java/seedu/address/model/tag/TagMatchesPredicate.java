@@ -10,20 +10,20 @@ import seedu.address.model.wedding.WeddingId;
  */
 public class TagMatchesPredicate implements Predicate<Person> {
     private final WeddingId weddingIdToMatch;
+    private final Tag tagToMatch;
 
+    /**
+     * Constructs a {@code TagMatchesPredicate} matching persons tagged with {@code weddingIdToMatch}.
+     */
     public TagMatchesPredicate(WeddingId weddingIdToMatch) {
         this.weddingIdToMatch = weddingIdToMatch;
+        this.tagToMatch = new Tag(weddingIdToMatch);
     }
 
     @Override
     public boolean test(Person person) {
-        // Check each tag in the person's tag set for a matching WeddingId
-        for (Tag tag : person.getTags()) {
-            if (tag.weddingId.equals(weddingIdToMatch)) {
-                return true;
-            }
-        }
-        return false;
+        // Tags are equal exactly when their WeddingIds are, so a hash lookup suffices
+        return person.getTags().contains(tagToMatch);
     }
 
     @Override
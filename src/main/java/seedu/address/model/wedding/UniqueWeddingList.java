@@ -2,8 +2,15 @@ package seedu.address.model.wedding;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -28,12 +35,47 @@ public class UniqueWeddingList implements Iterable<Wedding> {
     private final ObservableList<Wedding> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Primary-key index over internalList. If several weddings share an ID, the one that joined the list first is
+    // indexed, and the others wait in weddingsSharingId in the order they joined
+    private final Map<WeddingId, Wedding> weddingsById = new HashMap<>();
+    private final Map<WeddingId, List<Wedding>> weddingsSharingId = new HashMap<>();
+
+    // The identities of the weddings in internalList, so that duplicates are found without a scan of the list
+    private final Set<List<Object>> identities = new HashSet<>();
+
+    // The IDs of new weddings, which go on above the IDs of every wedding that was ever in the list
+    private final WeddingIdSequence weddingIds = new WeddingIdSequence();
+
     /**
      * Returns true if the list contains an equivalent wedding as the given argument.
      */
     public boolean contains(Wedding toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameWedding);
+        return identities.contains(identityOf(toCheck));
+    }
+
+    /**
+     * Returns true if the list contains {@code toCheck} itself, rather than only a wedding equal to it.
+     * Looked up through the ID index, so the list itself is not scanned.
+     */
+    public boolean containsInstance(Wedding toCheck) {
+        requireNonNull(toCheck);
+        WeddingId weddingId = toCheck.getWeddingId();
+        if (weddingsById.get(weddingId) == toCheck) {
+            return true;
+        }
+        return weddingsSharingId.getOrDefault(weddingId, Collections.emptyList()).stream()
+                .anyMatch(wedding -> wedding == toCheck);
+    }
+
+    /**
+     * Returns true if the list contains a wedding with the given name, date and location.
+     */
+    public boolean contains(WeddingName weddingName, WeddingDate weddingDate, WeddingLocation weddingLocation) {
+        requireNonNull(weddingName);
+        requireNonNull(weddingDate);
+        requireNonNull(weddingLocation);
+        return identities.contains(Arrays.asList(weddingName, weddingDate, weddingLocation));
     }
 
     /**
@@ -46,10 +88,33 @@ public class UniqueWeddingList implements Iterable<Wedding> {
             throw new DuplicateWeddingException();
         }
         internalList.add(toAdd);
-        // Only increment nextId if this is a new wedding.
-        if (!toAdd.isRestored()) {
-            Wedding.setNextId(Wedding.getNextId() + 1);
-        }
+        identities.add(identityOf(toAdd));
+        indexWedding(toAdd);
+        weddingIds.reserve(toAdd.getWeddingId());
+    }
+
+    /**
+     * Returns a new wedding ID that no wedding in the list has had, for a wedding to be added to the list.
+     * Safe to call from any thread.
+     */
+    public WeddingId allocateWeddingId() {
+        return weddingIds.allocate();
+    }
+
+    /**
+     * Returns the number of the ID that the next new wedding is given.
+     */
+    public int getNextWeddingId() {
+        return weddingIds.getNextId();
+    }
+
+    /**
+     * Makes {@code nextWeddingId} the number of the ID that the next new wedding is given, or one more than the
+     * largest ID in the list if that is larger.
+     */
+    public void setNextWeddingId(int nextWeddingId) {
+        weddingIds.setNextId(nextWeddingId);
+        internalList.forEach(wedding -> weddingIds.reserve(wedding.getWeddingId()));
     }
 
     /**
@@ -60,6 +125,14 @@ public class UniqueWeddingList implements Iterable<Wedding> {
         return internalList.get(index);
     }
 
+    /**
+     * Returns the wedding with the given {@code weddingId}, or {@code null} if there is no such wedding.
+     */
+    public Wedding getWeddingById(WeddingId weddingId) {
+        requireNonNull(weddingId);
+        return weddingsById.get(weddingId);
+    }
+
     /**
      * Replaces the wedding {@code target} in the list with {@code editedWedding}.
      * {@code target} must exist in the list.
@@ -80,6 +153,15 @@ public class UniqueWeddingList implements Iterable<Wedding> {
         }
 
         internalList.set(index, editedWedding);
+        identities.remove(identityOf(target));
+        identities.add(identityOf(editedWedding));
+        weddingIds.reserve(editedWedding.getWeddingId());
+        if (target.getWeddingId().equals(editedWedding.getWeddingId())) {
+            reindexWedding(target, editedWedding);
+        } else {
+            unindexWedding(target);
+            indexWedding(editedWedding);
+        }
     }
 
     /**
@@ -91,27 +173,35 @@ public class UniqueWeddingList implements Iterable<Wedding> {
         if (!internalList.remove(toRemove)) {
             throw new WeddingNotFoundException();
         }
+        identities.remove(identityOf(toRemove));
+        unindexWedding(toRemove);
     }
 
     /**
-     * Replaces the contents of this list with {@code replacement}.
+     * Replaces the contents of this list, and the IDs given to new weddings, with those of {@code replacement}.
      */
     public void setWeddings(UniqueWeddingList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
+        weddingIds.setNextId(replacement.getNextWeddingId());
     }
 
     /**
      * Replaces the contents of this list with {@code weddings}.
      * {@code weddings} must not contain duplicate weddings.
+     * New weddings are given IDs from one more than the largest ID in {@code weddings}.
      */
     public void setWeddings(List<Wedding> weddings) {
         requireNonNull(weddings);
-        if (!weddingsAreUnique(weddings)) {
-            throw new DuplicateWeddingException();
+        List<Wedding> duplicates = findDuplicateWeddings(weddings);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateWeddingException(duplicates);
         }
 
         internalList.setAll(weddings);
+        rebuildIndex();
+        setNextWeddingId(1);
     }
 
     /**
@@ -139,16 +229,74 @@ public class UniqueWeddingList implements Iterable<Wedding> {
     }
 
     /**
-     * Returns true if {@code weddings} contains only unique weddings.
+     * Adds {@code wedding} to the ID index, behind any weddings already in the list with the same ID.
+     */
+    private void indexWedding(Wedding wedding) {
+        WeddingId weddingId = wedding.getWeddingId();
+        if (weddingsById.putIfAbsent(weddingId, wedding) != null) {
+            weddingsSharingId.computeIfAbsent(weddingId, id -> new ArrayList<>()).add(wedding);
+        }
+    }
+
+    /**
+     * Puts {@code editedWedding} in the place of {@code target}, which has the same ID, in the ID index.
+     */
+    private void reindexWedding(Wedding target, Wedding editedWedding) {
+        WeddingId weddingId = target.getWeddingId();
+        if (weddingsById.replace(weddingId, target, editedWedding)) {
+            return;
+        }
+        List<Wedding> sharingId = weddingsSharingId.get(weddingId);
+        sharingId.set(sharingId.indexOf(target), editedWedding);
+    }
+
+    /**
+     * Removes {@code wedding} from the ID index, falling back to the next wedding with the same ID if there is one.
      */
-    private boolean weddingsAreUnique(List<Wedding> weddings) {
-        for (int i = 0; i < weddings.size() - 1; i++) {
-            for (int j = i + 1; j < weddings.size(); j++) {
-                if (weddings.get(i).isSameWedding(weddings.get(j))) {
-                    return false;
-                }
+    private void unindexWedding(Wedding wedding) {
+        WeddingId weddingId = wedding.getWeddingId();
+        List<Wedding> sharingId = weddingsSharingId.get(weddingId);
+        if (weddingsById.remove(weddingId, wedding)) {
+            if (sharingId != null) {
+                weddingsById.put(weddingId, sharingId.remove(0));
             }
+        } else if (sharingId != null) {
+            sharingId.remove(wedding);
         }
-        return true;
+        if (sharingId != null && sharingId.isEmpty()) {
+            weddingsSharingId.remove(weddingId);
+        }
+    }
+
+    private void rebuildIndex() {
+        weddingsById.clear();
+        weddingsSharingId.clear();
+        identities.clear();
+        for (Wedding wedding : internalList) {
+            identities.add(identityOf(wedding));
+            indexWedding(wedding);
+        }
+    }
+
+    /**
+     * Returns the weddings in {@code weddings} that have the same identity as an earlier wedding in the list,
+     * in the order they appear. Returns an empty list if {@code weddings} contains only unique weddings.
+     */
+    public static List<Wedding> findDuplicateWeddings(List<Wedding> weddings) {
+        Set<List<Object>> seenIdentities = new HashSet<>();
+        List<Wedding> duplicates = new ArrayList<>();
+        for (Wedding wedding : weddings) {
+            if (!seenIdentities.add(identityOf(wedding))) {
+                duplicates.add(wedding);
+            }
+        }
+        return duplicates;
+    }
+
+    /**
+     * Returns a hashable key whose equality matches {@link Wedding#isSameWedding(Wedding)}.
+     */
+    private static List<Object> identityOf(Wedding wedding) {
+        return Arrays.asList(wedding.getWeddingName(), wedding.getWeddingDate(), wedding.getWeddingLocation());
     }
 }
@@ -1,39 +1,34 @@
 package seedu.address.model.wedding;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
+import seedu.address.model.wedding.exceptions.TaskLoadingException;
+
 /**
  * Represents a Wedding event in the contact book.
  */
 public class Wedding {
-    private static int nextId = 1; // Static counter to keep track of Wedding ID
     private final WeddingId weddingId;
     private final WeddingName weddingName;
     private final WeddingDate weddingDate;
     private final WeddingLocation weddingLocation;
     private final boolean isRestored;
-    private final List<WeddingTask> tasks;
-
-    /**
-     * Creates a Wedding object with the given fields.
-     */
-    public Wedding(WeddingName weddingName, WeddingDate weddingDate, WeddingLocation weddingLocation) {
-        this.weddingId = new WeddingId("W" + nextId);
-        this.weddingName = weddingName;
-        this.weddingDate = weddingDate;
-        this.weddingLocation = weddingLocation;
-        this.isRestored = false;
-
-        // Initialize tasks for a newly created wedding
-        this.tasks = new ArrayList<>();
-    }
+    // The tasks, or null until they are loaded by the task loader. Guarded by this, as the tasks may be loaded by
+    // one thread while another copies the wedding for a snapshot
+    private List<WeddingTask> tasks;
+    private WeddingTaskLoader taskLoader;
 
     /**
      * Creates a Wedding object with a specified ID
      * defaulting to not restored.
+     * The ID of a new wedding is allocated by the address book it is added to.
+     *
+     * @see seedu.address.model.AddressBook#allocateWeddingId()
      */
     public Wedding(WeddingId weddingId, WeddingName weddingName, WeddingDate weddingDate, WeddingLocation location) {
         this(weddingId, weddingName, weddingDate, location, false);
@@ -53,41 +48,103 @@ public class Wedding {
 
         // Initialize tasks for a isRestored wedding (empty by default)
         this.tasks = new ArrayList<>();
+    }
 
-        if (isRestored) {
-            int numericPart = Integer.parseInt(weddingId.value.substring(1)); // skip 'W'
-            if (numericPart >= nextId) {
-                nextId = numericPart + 1;
+    /**
+     * Creates a restored Wedding object whose tasks are left in storage until they are first accessed,
+     * when they are loaded by {@code taskLoader}.
+     */
+    public Wedding(WeddingId weddingId, WeddingName weddingName, WeddingDate weddingDate,
+                   WeddingLocation weddingLocation, WeddingTaskLoader taskLoader) {
+        this(weddingId, weddingName, weddingDate, weddingLocation, true);
+        requireNonNull(taskLoader);
+        this.tasks = null;
+        this.taskLoader = taskLoader;
+    }
+
+    /**
+     * Creates a copy of {@code source} with copies of its tasks.
+     */
+    private Wedding(Wedding source) {
+        this.weddingId = source.weddingId;
+        this.weddingName = source.weddingName;
+        this.weddingDate = source.weddingDate;
+        this.weddingLocation = source.weddingLocation;
+        this.isRestored = source.isRestored;
+        synchronized (source) {
+            if (source.tasks == null) {
+                this.taskLoader = source.taskLoader;
+                return;
             }
+            this.tasks = new ArrayList<>(source.tasks.size());
+            for (WeddingTask task : source.tasks) {
+                WeddingTask taskCopy = new WeddingTask(task.getDescription());
+                if (task.isDone()) {
+                    taskCopy.markAsDone();
+                }
+                this.tasks.add(taskCopy);
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of this wedding that is unaffected by later changes to the tasks of this wedding.
+     * Tasks that have not been loaded yet are not loaded, and are loaded by the copy when it first accesses them.
+     */
+    public Wedding copy() {
+        return new Wedding(this);
+    }
+
+    /**
+     * Returns the tasks of this wedding, loading them first if they have not been loaded yet.
+     *
+     * @throws TaskLoadingException if the tasks cannot be loaded.
+     */
+    private synchronized List<WeddingTask> tasks() {
+        if (tasks == null) {
+            tasks = new ArrayList<>(taskLoader.loadTasks());
+            taskLoader = null;
         }
+        return tasks;
+    }
+
+    /**
+     * Returns true if the tasks of this wedding are in memory, or false if they are still left in storage.
+     * Tasks left in storage are unchanged since the wedding was loaded.
+     */
+    public synchronized boolean hasLoadedTasks() {
+        return tasks != null;
     }
 
     /**
      * Returns the list of tasks for this wedding as an unmodifiable list.
+     *
+     * @throws TaskLoadingException if the tasks were left in storage and cannot be loaded.
      */
     public List<WeddingTask> getTasks() {
-        return Collections.unmodifiableList(tasks);
+        return Collections.unmodifiableList(tasks());
     }
 
     /**
      * Returns a string representation of the tasks for this wedding for UI.
      */
     public String getTasksString() {
-        if (tasks.isEmpty()) {
+        int taskCount = tasks().size();
+        if (taskCount == 0) {
             return "No tasks found for this wedding";
         }
 
-        if (tasks.size() == 1) {
+        if (taskCount == 1) {
             return "There is 1 task for this wedding";
         }
-        return "There are " + tasks.size() + " tasks for this wedding";
+        return "There are " + taskCount + " tasks for this wedding";
     }
 
     /**
      * Adds a task to this wedding's task list.
      */
     public void addTask(WeddingTask task) {
-        tasks.add(task);
+        tasks().add(task);
     }
 
     /**
@@ -96,27 +153,13 @@ public class Wedding {
      * @throws IndexOutOfBoundsException if the index is invalid.
      */
     public WeddingTask removeTask(int index) throws IndexOutOfBoundsException {
-        return tasks.remove(index);
+        return tasks().remove(index);
     }
 
     public boolean isRestored() {
         return isRestored;
     }
 
-    /**
-     * For read-only access to the current counter value.
-     */
-    public static int getNextId() {
-        return nextId;
-    }
-
-    /**
-     * For forcibly resetting the counter, e.g. if a duplicate was detected.
-     */
-    public static void setNextId(int newValue) {
-        nextId = newValue;
-    }
-
     public WeddingId getWeddingId() {
         return weddingId;
     }
@@ -4,10 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -27,177 +34,198 @@ public class WeddingDate {
     public static final String MESSAGE_DATE_OUT_OF_RANGE = "Wedding date should be a valid date";
     public static final String MESSAGE_DATE_IN_PAST = "Wedding date should not be in the past";
 
-    private static final List<DateTimeFormatter> DATE_FORMATTERS = Arrays.asList(
+    private static final List<String> DATE_PATTERNS = Arrays.asList(
             // === DMY (Day-Month-Year) ===
-            DateTimeFormatter.ofPattern("dd-MM-yyyy"),
-            DateTimeFormatter.ofPattern("dd/MM/yyyy"),
-            DateTimeFormatter.ofPattern("dd.MM.yyyy"),
-            DateTimeFormatter.ofPattern("dd MM yyyy"),
-            DateTimeFormatter.ofPattern("ddMMyyyy"),
-
-            DateTimeFormatter.ofPattern("dd-MMM-yyyy"),
-            DateTimeFormatter.ofPattern("dd.MMM.yyyy"),
-            DateTimeFormatter.ofPattern("dd/MMM/yyyy"),
-            DateTimeFormatter.ofPattern("dd MMM yyyy"),
-            DateTimeFormatter.ofPattern("ddMMMyyyy"),
-            DateTimeFormatter.ofPattern("ddMMMMyyyy"),
-            DateTimeFormatter.ofPattern("dd-MMMM-yyyy"),
-            DateTimeFormatter.ofPattern("dd MMMM yyyy"),
-            DateTimeFormatter.ofPattern("ddMMMM-yyyy"),
-            DateTimeFormatter.ofPattern("dd MMMMyyyy"),
-            DateTimeFormatter.ofPattern("dd/MMMM/yyyy"),
-            DateTimeFormatter.ofPattern("dd.MMMM.yyyy"),
-            DateTimeFormatter.ofPattern("dd MMMM yyyy"),
-            DateTimeFormatter.ofPattern("d MMM yyyy"),
-            DateTimeFormatter.ofPattern("d MMMM yyyy"),
-            DateTimeFormatter.ofPattern("dMMMyyyy"),
-            DateTimeFormatter.ofPattern("d MMMMyyyy"),
-            DateTimeFormatter.ofPattern("ddMMMyyyy"),
-            DateTimeFormatter.ofPattern("ddMMMMyyyy"),
+            "dd-MM-yyyy",
+            "dd/MM/yyyy",
+            "dd.MM.yyyy",
+            "dd MM yyyy",
+            "ddMMyyyy",
+
+            "dd-MMM-yyyy",
+            "dd.MMM.yyyy",
+            "dd/MMM/yyyy",
+            "dd MMM yyyy",
+            "ddMMMyyyy",
+            "ddMMMMyyyy",
+            "dd-MMMM-yyyy",
+            "dd MMMM yyyy",
+            "ddMMMM-yyyy",
+            "dd MMMMyyyy",
+            "dd/MMMM/yyyy",
+            "dd.MMMM.yyyy",
+            "dd MMMM yyyy",
+            "d MMM yyyy",
+            "d MMMM yyyy",
+            "dMMMyyyy",
+            "d MMMMyyyy",
+            "ddMMMyyyy",
+            "ddMMMMyyyy",
 
             // === MDY (Month-Day-Year) ===
-            DateTimeFormatter.ofPattern("MM-dd-yyyy"),
-            DateTimeFormatter.ofPattern("MM/dd/yyyy"),
-            DateTimeFormatter.ofPattern("MM.dd.yyyy"),
-            DateTimeFormatter.ofPattern("MM dd yyyy"),
-            DateTimeFormatter.ofPattern("MMddyyyy"),
-
-            DateTimeFormatter.ofPattern("MMM-dd-yyyy"),
-            DateTimeFormatter.ofPattern("MMM/dd/yyyy"),
-            DateTimeFormatter.ofPattern("MMM dd yyyy"),
-            DateTimeFormatter.ofPattern("MMMdyyyy"),
-
-            DateTimeFormatter.ofPattern("MMMM-dd-yyyy"),
-            DateTimeFormatter.ofPattern("MMMM dd yyyy"),
-            DateTimeFormatter.ofPattern("MMMMyyyydd"),
-
-            DateTimeFormatter.ofPattern("MMM dd, yyyy"),
-            DateTimeFormatter.ofPattern("MMMM dd, yyyy"),
-            DateTimeFormatter.ofPattern("MMM d, yyyy"),
-            DateTimeFormatter.ofPattern("MMMM d, yyyy"),
+            "MM-dd-yyyy",
+            "MM/dd/yyyy",
+            "MM.dd.yyyy",
+            "MM dd yyyy",
+            "MMddyyyy",
+
+            "MMM-dd-yyyy",
+            "MMM/dd/yyyy",
+            "MMM dd yyyy",
+            "MMMdyyyy",
+
+            "MMMM-dd-yyyy",
+            "MMMM dd yyyy",
+            "MMMMyyyydd",
+
+            "MMM dd, yyyy",
+            "MMMM dd, yyyy",
+            "MMM d, yyyy",
+            "MMMM d, yyyy",
 
             // === YMD (Year-Month-Day) ===
-            DateTimeFormatter.ofPattern("yyyy-MM-dd"),
-            DateTimeFormatter.ofPattern("yyyy/MM/dd"),
-            DateTimeFormatter.ofPattern("yyyy.MM.dd"),
-            DateTimeFormatter.ofPattern("yyyy MM dd"),
-            DateTimeFormatter.ofPattern("yyyyMMdd"),
-
-            DateTimeFormatter.ofPattern("yyyy-MMM-dd"),
-            DateTimeFormatter.ofPattern("yyyy.MMM.dd"),
-            DateTimeFormatter.ofPattern("yyyy/MMM/dd"),
-            DateTimeFormatter.ofPattern("yyyy MMM dd"),
-            DateTimeFormatter.ofPattern("yyyyMMMdd"),
-
-            DateTimeFormatter.ofPattern("yyyy-MMMM-dd"),
-            DateTimeFormatter.ofPattern("yyyy MMMM dd"),
-            DateTimeFormatter.ofPattern("yyyy/MMMM/dd"),
-            DateTimeFormatter.ofPattern("yyyyMMMdd"),
-            DateTimeFormatter.ofPattern("yyyy MMMM dd"),
-            DateTimeFormatter.ofPattern("yyyy MMMM d"),
-            DateTimeFormatter.ofPattern("yyyyMMMMdd"),
-            DateTimeFormatter.ofPattern("yyyy.MMMM.dd"),
-            DateTimeFormatter.ofPattern("yyyyMMMMd"),
+            "yyyy-MM-dd",
+            "yyyy/MM/dd",
+            "yyyy.MM.dd",
+            "yyyy MM dd",
+            "yyyyMMdd",
+
+            "yyyy-MMM-dd",
+            "yyyy.MMM.dd",
+            "yyyy/MMM/dd",
+            "yyyy MMM dd",
+            "yyyyMMMdd",
+
+            "yyyy-MMMM-dd",
+            "yyyy MMMM dd",
+            "yyyy/MMMM/dd",
+            "yyyyMMMdd",
+            "yyyy MMMM dd",
+            "yyyy MMMM d",
+            "yyyyMMMMdd",
+            "yyyy.MMMM.dd",
+            "yyyyMMMMd",
 
             // === YDM (Year-Day-Month) ===
-            DateTimeFormatter.ofPattern("yyyy-dd-MM"),
-            DateTimeFormatter.ofPattern("yyyy/dd/MM"),
-            DateTimeFormatter.ofPattern("yyyy.dd.MM"),
-            DateTimeFormatter.ofPattern("yyyy dd MM"),
-            DateTimeFormatter.ofPattern("yyyyddMM"),
-
-            DateTimeFormatter.ofPattern("yyyy-dd-MMM"),
-            DateTimeFormatter.ofPattern("yyyy/dd/MMM"),
-            DateTimeFormatter.ofPattern("yyyy dd MMM"),
-            DateTimeFormatter.ofPattern("yyyyddMMM"),
-
-            DateTimeFormatter.ofPattern("yyyy-dd-MMMM"),
-            DateTimeFormatter.ofPattern("yyyy dd MMMM"),
-            DateTimeFormatter.ofPattern("yyyyddMMMM"),
-            DateTimeFormatter.ofPattern("yyyy d MMM"),
-            DateTimeFormatter.ofPattern("yyyy d MMMM"),
+            "yyyy-dd-MM",
+            "yyyy/dd/MM",
+            "yyyy.dd.MM",
+            "yyyy dd MM",
+            "yyyyddMM",
+
+            "yyyy-dd-MMM",
+            "yyyy/dd/MMM",
+            "yyyy dd MMM",
+            "yyyyddMMM",
+
+            "yyyy-dd-MMMM",
+            "yyyy dd MMMM",
+            "yyyyddMMMM",
+            "yyyy d MMM",
+            "yyyy d MMMM",
 
             // === DYM (Day-Year-Month) ===
-            DateTimeFormatter.ofPattern("dd-yyyy-MM"),
-            DateTimeFormatter.ofPattern("dd/yyyy/MM"),
-            DateTimeFormatter.ofPattern("dd.yyyy.MM"),
-            DateTimeFormatter.ofPattern("dd yyyy MM"),
-            DateTimeFormatter.ofPattern("ddyyyyMM"),
-
-            DateTimeFormatter.ofPattern("dd-yyyy-MMM"),
-            DateTimeFormatter.ofPattern("dd/yyyy/MMM"),
-            DateTimeFormatter.ofPattern("dd yyyy MMM"),
-            DateTimeFormatter.ofPattern("ddyyyyMMM"),
-
-            DateTimeFormatter.ofPattern("dd-yyyy-MMMM"),
-            DateTimeFormatter.ofPattern("dd yyyy MMMM"),
-            DateTimeFormatter.ofPattern("ddyyyyMMMM"),
-            DateTimeFormatter.ofPattern("d yyyy MMM"),
-            DateTimeFormatter.ofPattern("d yyyy MMMM"),
+            "dd-yyyy-MM",
+            "dd/yyyy/MM",
+            "dd.yyyy.MM",
+            "dd yyyy MM",
+            "ddyyyyMM",
+
+            "dd-yyyy-MMM",
+            "dd/yyyy/MMM",
+            "dd yyyy MMM",
+            "ddyyyyMMM",
+
+            "dd-yyyy-MMMM",
+            "dd yyyy MMMM",
+            "ddyyyyMMMM",
+            "d yyyy MMM",
+            "d yyyy MMMM",
 
             // === MYD (Month-Year-Day) ===
-            DateTimeFormatter.ofPattern("MM-yyyy-dd"),
-            DateTimeFormatter.ofPattern("MM/yyyy/dd"),
-            DateTimeFormatter.ofPattern("MM.yyyy.dd"),
-            DateTimeFormatter.ofPattern("MM yyyy dd"),
-            DateTimeFormatter.ofPattern("MMyyyydd"),
+            "MM-yyyy-dd",
+            "MM/yyyy/dd",
+            "MM.yyyy.dd",
+            "MM yyyy dd",
+            "MMyyyydd",
 
-            DateTimeFormatter.ofPattern("MMM-yyyy-dd"),
-            DateTimeFormatter.ofPattern("MMM yyyy dd"),
-            DateTimeFormatter.ofPattern("MMMyyyydd"),
+            "MMM-yyyy-dd",
+            "MMM yyyy dd",
+            "MMMyyyydd",
 
-            DateTimeFormatter.ofPattern("MMMM-yyyy-dd"),
-            DateTimeFormatter.ofPattern("MMMM yyyy dd"),
-            DateTimeFormatter.ofPattern("MMMMyyyydd"),
+            "MMMM-yyyy-dd",
+            "MMMM yyyy dd",
+            "MMMMyyyydd",
 
             // === Partial Formats: Single Day / Month (No Padding) ===
             // Day-Month-Year
-            DateTimeFormatter.ofPattern("d-M-yyyy"),
-            DateTimeFormatter.ofPattern("d/M/yyyy"),
-            DateTimeFormatter.ofPattern("d.M.yyyy"),
-            DateTimeFormatter.ofPattern("d M yyyy"),
-            DateTimeFormatter.ofPattern("dMyyyy"),
+            "d-M-yyyy",
+            "d/M/yyyy",
+            "d.M.yyyy",
+            "d M yyyy",
+            "dMyyyy",
 
             // Month-Day-Year
-            DateTimeFormatter.ofPattern("M-d-yyyy"),
-            DateTimeFormatter.ofPattern("M/d/yyyy"),
-            DateTimeFormatter.ofPattern("M.d.yyyy"),
-            DateTimeFormatter.ofPattern("M d yyyy"),
-            DateTimeFormatter.ofPattern("Mdyyyy"),
+            "M-d-yyyy",
+            "M/d/yyyy",
+            "M.d.yyyy",
+            "M d yyyy",
+            "Mdyyyy",
 
             // Year-Month-Day
-            DateTimeFormatter.ofPattern("yyyy-M-d"),
-            DateTimeFormatter.ofPattern("yyyy/M/d"),
-            DateTimeFormatter.ofPattern("yyyy.M.d"),
-            DateTimeFormatter.ofPattern("yyyy M d"),
-            DateTimeFormatter.ofPattern("yyyyMd"),
+            "yyyy-M-d",
+            "yyyy/M/d",
+            "yyyy.M.d",
+            "yyyy M d",
+            "yyyyMd",
 
             // Year-Day-Month
-            DateTimeFormatter.ofPattern("yyyy-d-M"),
-            DateTimeFormatter.ofPattern("yyyy/d/M"),
-            DateTimeFormatter.ofPattern("yyyy.d.M"),
-            DateTimeFormatter.ofPattern("yyyy d M"),
-            DateTimeFormatter.ofPattern("yyyydM"),
+            "yyyy-d-M",
+            "yyyy/d/M",
+            "yyyy.d.M",
+            "yyyy d M",
+            "yyyydM",
 
             // Month-Year-Day
-            DateTimeFormatter.ofPattern("M-yyyy-d"),
-            DateTimeFormatter.ofPattern("M/yyyy/d"),
-            DateTimeFormatter.ofPattern("M.yyyy.d"),
-            DateTimeFormatter.ofPattern("M yyyy d"),
-            DateTimeFormatter.ofPattern("Myyyyd"),
+            "M-yyyy-d",
+            "M/yyyy/d",
+            "M.yyyy.d",
+            "M yyyy d",
+            "Myyyyd",
 
             // Day-Year-Month
-            DateTimeFormatter.ofPattern("d-yyyy-M"),
-            DateTimeFormatter.ofPattern("d/yyyy/M"),
-            DateTimeFormatter.ofPattern("d.yyyy.M"),
-            DateTimeFormatter.ofPattern("d yyyy M"),
-            DateTimeFormatter.ofPattern("dyyyyM")
+            "d-yyyy-M",
+            "d/yyyy/M",
+            "d.yyyy.M",
+            "d yyyy M",
+            "dyyyyM"
     );
 
+    private static final List<DateTimeFormatter> DATE_FORMATTERS = DATE_PATTERNS.stream()
+            .map(DateTimeFormatter::ofPattern)
+            .collect(Collectors.toList());
+
+    // For each of DATE_PATTERNS, a regex matching the shape (see shapeOf) of every input the pattern could parse.
+    private static final List<Pattern> SHAPE_REGEXES = DATE_PATTERNS.stream()
+            .map(WeddingDate::toShapeRegex)
+            .collect(Collectors.toList());
+
+    // Formatters that may parse inputs of each shape seen so far, in the order of DATE_FORMATTERS.
+    private static final Map<String, List<DateTimeFormatter>> FORMATTERS_BY_SHAPE = new ConcurrentHashMap<>();
+    private static final int MAX_CACHED_SHAPES = 1024;
+
     private static final DateTimeFormatter OUTPUT_FORMATTER = DateTimeFormatter.ofPattern("dd-MMM-yyyy");
 
+    // Months by their abbreviation in OUTPUT_FORMATTER, for reading dates in the stored form without a formatter.
+    private static final Map<String, Month> MONTHS_BY_ABBREVIATION = Arrays.stream(Month.values())
+            .collect(Collectors.toMap(month -> LocalDate.of(2000, month, 1).format(DateTimeFormatter.ofPattern("MMM")),
+                    month -> month, (first, second) -> first));
+
     public final String value;
 
+    // The date as a count of days from the epoch, for comparing dates without parsing value
+    private final long epochDay;
+
     /**
      * Constructs a {@code WeddingDate}.
      *
@@ -205,25 +233,52 @@ public class WeddingDate {
      */
     public WeddingDate(String date) throws ParseException {
         requireNonNull(date);
-        checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
-        this.value = formatDate(date);
+        LocalDate parsedDate = parseDate(date);
+        checkArgument(parsedDate != null, MESSAGE_CONSTRAINTS);
+        this.value = parsedDate.format(OUTPUT_FORMATTER);
+        this.epochDay = parsedDate.toEpochDay();
+    }
+
+    /**
+     * Returns the date as the number of days since 1970-01-01, so that earlier dates have smaller values.
+     */
+    public long toEpochDay() {
+        return epochDay;
     }
 
     /**
      * Returns true if a given string is a valid wedding date in one of the accepted formats.
      */
     public static boolean isValidDate(String test) throws ParseException {
-        for (DateTimeFormatter formatter : DATE_FORMATTERS) {
+        return parseDate(test) != null;
+    }
+
+    /**
+     * Parses the given date string using the first of the accepted formats that it matches.
+     * Returns null if it matches none of them.
+     *
+     * @throws ParseException if the date does not exist or is in the past.
+     */
+    private static LocalDate parseDate(String date) throws ParseException {
+        LocalDate storedDate = parseStoredDate(date);
+        if (storedDate != null) {
+            if (storedDate.isBefore(LocalDate.now())) {
+                throw new ParseException(MESSAGE_DATE_IN_PAST);
+            }
+            return storedDate;
+        }
+
+        for (DateTimeFormatter formatter : formattersFor(date)) {
             try {
-                LocalDate parsedDate = LocalDate.parse(test, formatter);
+                LocalDate parsedDate = LocalDate.parse(date, formatter);
                 String formattedDate = parsedDate.format(formatter);
-                if (!formattedDate.equals(test)) {
+                if (!formattedDate.equals(date)) {
                     throw new ParseException(MESSAGE_DATE_OUT_OF_RANGE);
                 }
                 if (parsedDate.isBefore(LocalDate.now())) {
                     throw new ParseException(MESSAGE_DATE_IN_PAST);
                 }
-                return true;
+                return parsedDate;
             } catch (DateTimeParseException e) {
                 if (e.getMessage().contains("Invalid value")) {
                     throw new ParseException(MESSAGE_DATE_OUT_OF_RANGE);
@@ -231,26 +286,110 @@ public class WeddingDate {
                 // Continue to the next format to check for validity
             }
         }
-        return false;
+        return null;
     }
 
     /**
-     * Formats the given date string to the standard output format.
+     * Returns the date in {@code date} if it is an existing date in the stored "dd-MMM-yyyy" form, or null otherwise.
+     * Dates are saved in this form, so this spares the formatters when loading the address book.
      */
-    private static String formatDate(String date) throws ParseException {
-        for (DateTimeFormatter formatter : DATE_FORMATTERS) {
-            try {
-                LocalDate parsedDate = LocalDate.parse(date, formatter);
-                String formattedDate = parsedDate.format(formatter);
-                if (!formattedDate.equals(date)) {
-                    throw new ParseException(MESSAGE_DATE_OUT_OF_RANGE);
+    private static LocalDate parseStoredDate(String date) {
+        if (date.length() != 11 || date.charAt(2) != '-' || date.charAt(6) != '-') {
+            return null;
+        }
+        int day = parseDigits(date, 0, 2);
+        int year = parseDigits(date, 7, 11);
+        Month month = MONTHS_BY_ABBREVIATION.get(date.substring(3, 6));
+        // Year 0 is rejected by the "yyyy" (year-of-era) pattern, so it is left to the formatters.
+        if (day < 1 || year < 1 || month == null || day > month.length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Returns the non-negative number written in {@code text} from {@code start} to {@code end}, or -1 if a character
+     * in that range is not a digit.
+     */
+    private static int parseDigits(String text, int start, int end) {
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+
+    /**
+     * Returns the formatters that may parse {@code date}, in the order of {@code DATE_FORMATTERS}.
+     * The formatters left out would reject {@code date} with a parse error rather than an "Invalid value" error, so
+     * trying only these gives the same outcome as trying every formatter.
+     */
+    private static List<DateTimeFormatter> formattersFor(String date) {
+        String shape = shapeOf(date);
+        List<DateTimeFormatter> formatters = FORMATTERS_BY_SHAPE.get(shape);
+        if (formatters == null) {
+            formatters = new ArrayList<>();
+            for (int i = 0; i < DATE_FORMATTERS.size(); i++) {
+                if (SHAPE_REGEXES.get(i).matcher(shape).matches()) {
+                    formatters.add(DATE_FORMATTERS.get(i));
                 }
-                return parsedDate.format(OUTPUT_FORMATTER);
-            } catch (DateTimeParseException e) {
-                // Continue to the next format
             }
+            if (FORMATTERS_BY_SHAPE.size() < MAX_CACHED_SHAPES) {
+                FORMATTERS_BY_SHAPE.put(shape, formatters);
+            }
+        }
+        return formatters;
+    }
+
+    /**
+     * Returns the shape of {@code date}: {@code date} with each ASCII digit replaced by '9' and each letter by 'a'.
+     */
+    private static String shapeOf(String date) {
+        StringBuilder shape = new StringBuilder(date.length());
+        for (int i = 0; i < date.length(); i++) {
+            char c = date.charAt(i);
+            if (c >= '0' && c <= '9') {
+                shape.append('9');
+            } else if (Character.isLetter(c)) {
+                shape.append('a');
+            } else {
+                shape.append(c);
+            }
+        }
+        return shape.toString();
+    }
+
+    /**
+     * Returns a regex matching the shape of every string that {@code datePattern} could parse, and possibly more.
+     * Numeric fields become runs of digits of the widths the field accepts, and month names become runs of any
+     * characters, so that the regex does not depend on the locale.
+     */
+    private static Pattern toShapeRegex(String datePattern) {
+        StringBuilder regex = new StringBuilder();
+        int i = 0;
+        while (i < datePattern.length()) {
+            char letter = datePattern.charAt(i);
+            int count = 1;
+            while (i + count < datePattern.length() && datePattern.charAt(i + count) == letter) {
+                count++;
+            }
+            if (letter == 'M' && count >= 3) {
+                regex.append(".+?");
+            } else if (letter == 'y' || (letter == 'd' || letter == 'M') && count == 1) {
+                // Fields that are not of a fixed width also accept a sign and up to 19 digits.
+                regex.append("[+-]?9{").append(count).append(",19}");
+            } else if (letter == 'd' || letter == 'M') {
+                regex.append("9{").append(count).append("}");
+            } else {
+                regex.append(Pattern.quote(datePattern.substring(i, i + count)));
+            }
+            i += count;
         }
-        throw new ParseException(MESSAGE_CONSTRAINTS);
+        return Pattern.compile(regex.toString());
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.wedding;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Wedding's ID in the system.
  * Format: "W" followed by a positive integer (e.g., "W1", "W42").
@@ -17,6 +19,8 @@ public class WeddingId {
 
     public static final String VALIDATION_REGEX = "^W\\d+$";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
     public final int valueInt;
 
@@ -29,14 +33,25 @@ public class WeddingId {
         requireNonNull(id);
         checkArgument(isValidWeddingId(id), MESSAGE_CONSTRAINTS);
         this.value = id;
-        this.valueInt = Integer.parseInt(id.substring(1)); // Parse the numeric part only
+        this.valueInt = Integer.parseInt(id, 1, id.length(), 10); // Parse the numeric part only
+    }
+
+    /**
+     * Constructs the {@code WeddingId} with the given sequence number, e.g. "W10" for 10.
+     *
+     * @param id A positive sequence number.
+     */
+    public WeddingId(int id) {
+        checkArgument(id > 0, MESSAGE_NEGATIVE_CONSTRAINTS);
+        this.value = "W" + id;
+        this.valueInt = id;
     }
 
     /**
      * Returns true if a given string is a valid wedding ID.
      */
     public static boolean isValidWeddingId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -46,13 +61,22 @@ public class WeddingId {
 
     @Override
     public boolean equals(Object other) {
-        return other == this
-                || (other instanceof WeddingId
-                && value.equals(((WeddingId) other).value));
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WeddingId)) {
+            return false;
+        }
+
+        // IDs with leading zeros share the sequence number of the ID without them, so the values are compared too.
+        WeddingId otherWeddingId = (WeddingId) other;
+        return valueInt == otherWeddingId.valueInt && value.equals(otherWeddingId.value);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(valueInt);
     }
 }
@@ -0,0 +1,50 @@
+package seedu.address.model.wedding;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out the IDs of new weddings in an address book, in increasing order and each at most once.
+ * Each address book has its own sequence, which is saved with it so that the IDs of deleted weddings are not
+ * handed out again. Safe to use from many threads at once.
+ */
+public class WeddingIdSequence {
+
+    public static final String MESSAGE_CONSTRAINTS = "The next wedding ID must be a positive number.";
+
+    private final AtomicInteger nextId = new AtomicInteger(1);
+
+    /**
+     * Returns a new wedding ID, which is never returned again.
+     */
+    public WeddingId allocate() {
+        return new WeddingId(nextId.getAndIncrement());
+    }
+
+    /**
+     * Keeps {@code weddingId}, e.g. of a wedding loaded from storage, from being handed out as a new ID.
+     * Weddings may be reserved in any order, and the sequence goes on above the largest ID reserved.
+     */
+    public void reserve(WeddingId weddingId) {
+        requireNonNull(weddingId);
+        nextId.accumulateAndGet(weddingId.valueInt + 1, Math::max);
+    }
+
+    /**
+     * Returns the number of the ID that the next call to {@link #allocate()} returns.
+     */
+    public int getNextId() {
+        return nextId.get();
+    }
+
+    /**
+     * Makes {@code nextId} the number of the ID that the next call to {@link #allocate()} returns.
+     */
+    public void setNextId(int nextId) {
+        checkArgument(nextId > 0, MESSAGE_CONSTRAINTS);
+        this.nextId.set(nextId);
+    }
+
+}
@@ -0,0 +1,19 @@
+package seedu.address.model.wedding;
+
+import java.util.List;
+
+import seedu.address.model.wedding.exceptions.TaskLoadingException;
+
+/**
+ * Loads the tasks of a wedding that were left in storage when the wedding was loaded.
+ */
+@FunctionalInterface
+public interface WeddingTaskLoader {
+
+    /**
+     * Returns the tasks of the wedding, in order.
+     *
+     * @throws TaskLoadingException if the tasks cannot be loaded.
+     */
+    List<WeddingTask> loadTasks();
+}
@@ -1,10 +1,37 @@
 package seedu.address.model.wedding.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.wedding.Wedding;
+
 /**
  * Signals that the operation will result in duplicate Weddings.
  */
 public class DuplicateWeddingException extends RuntimeException {
+
+    private final List<Wedding> duplicates;
+
     public DuplicateWeddingException() {
         super("Operation would result in duplicate weddings");
+        this.duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateWeddingException} reporting the weddings that collide with an earlier wedding.
+     */
+    public DuplicateWeddingException(List<Wedding> duplicates) {
+        super("Operation would result in duplicate weddings: " + duplicates.stream()
+                .map(wedding -> wedding.getWeddingId().value)
+                .collect(Collectors.joining(", ")));
+        this.duplicates = Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Returns the weddings that caused this exception, or an empty list if they are not known.
+     */
+    public List<Wedding> getDuplicates() {
+        return duplicates;
     }
 }
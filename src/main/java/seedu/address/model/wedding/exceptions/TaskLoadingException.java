@@ -0,0 +1,10 @@
+package seedu.address.model.wedding.exceptions;
+
+/**
+ * Signals that the tasks of a wedding could not be loaded from storage.
+ */
+public class TaskLoadingException extends RuntimeException {
+    public TaskLoadingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
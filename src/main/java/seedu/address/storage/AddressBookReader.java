@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * Reads the persons and weddings of an address book from a data file, and collects them into an address book.
+ * Changes journaled since the data file was written can be replayed on top of the persons and weddings read.
+ */
+abstract class AddressBookReader {
+
+    protected final List<Person> persons = new ArrayList<>();
+    protected final List<Wedding> weddings = new ArrayList<>();
+    // The number of the ID of the next new wedding, or null if the data file does not keep it
+    protected Integer nextWeddingId;
+
+    /**
+     * Returns a reader for the data file at {@code filePath}, which may be in the JSON or the binary format, or the
+     * manifest of a {@link ShardedAddressBookStorage}.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    public static AddressBookReader forFile(Path filePath) throws IOException {
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            return new BinaryAddressBookReader();
+        }
+        if (ShardedAddressBookReader.isManifestFile(filePath)) {
+            return new ShardedAddressBookReader();
+        }
+        return new JsonAddressBookReader();
+    }
+
+    /**
+     * Returns the format of the data files read by this reader.
+     */
+    public abstract DataFileFormat getFormat();
+
+    /**
+     * Reads the persons and weddings of the data file at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read or is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public abstract void read(Path filePath) throws IOException, IllegalValueException;
+
+    /**
+     * Applies the changes recorded in {@code entry} to the persons and weddings read.
+     *
+     * @throws IllegalValueException if the changes do not fit the persons and weddings read.
+     */
+    public void replay(JsonAdaptedJournalEntry entry) throws IllegalValueException {
+        entry.applyTo(persons, weddings);
+        if (entry.getNextWeddingId() != null) {
+            nextWeddingId = entry.getNextWeddingId();
+        }
+    }
+
+    /**
+     * Returns an address book with the persons and weddings read.
+     * New weddings are given IDs from the next wedding ID read, or from one more than the largest ID read if the
+     * data file does not keep it.
+     *
+     * @throws IllegalValueException if there are duplicate weddings, or the next wedding ID read is invalid.
+     */
+    public AddressBook toAddressBook() throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        // Forced duplicates are kept, as in JsonSerializableAddressBook#toModelType
+        addressBook.setPersons(persons, true);
+        for (Wedding wedding : weddings) {
+            if (addressBook.hasWedding(wedding)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_WEDDING);
+            }
+            addressBook.addWedding(wedding);
+        }
+        if (nextWeddingId != null) {
+            if (nextWeddingId < 1) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_INVALID_NEXT_WEDDING_ID);
+            }
+            addressBook.setNextWeddingId(nextWeddingId);
+        }
+        return addressBook;
+    }
+
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -42,4 +43,16 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Waits until every address book handed to {@link #saveAddressBook(ReadOnlyAddressBook)} has been written.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Makes {@code listener} be called, on the thread that writes the data file, with each failure to write an
+     * address book that happens after {@link #saveAddressBook(ReadOnlyAddressBook)} has returned.
+     */
+    void setWriteFailureListener(Consumer<IOException> listener);
+
 }
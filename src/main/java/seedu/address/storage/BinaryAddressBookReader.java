@@ -0,0 +1,228 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingId;
+
+/**
+ * Reads an address book from a data file in the binary format written by {@link BinaryAddressBookWriter}.
+ * <p>
+ * Each role, address and wedding id is validated and converted into the model once, however many persons share it.
+ * Values are validated by the constructors of the model, so invalid values are reported with the same messages as
+ * for JSON data files.
+ */
+class BinaryAddressBookReader extends AddressBookReader {
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported version %d of the binary data file.";
+
+    private final List<String> dictionary = new ArrayList<>();
+    private final Map<String, Role> roles = new HashMap<>();
+    private final Map<String, Address> addresses = new HashMap<>();
+    private final Map<String, Tag> tags = new HashMap<>();
+    private ByteBuffer buffer;
+    private byte[] stringBytes = new byte[64];
+
+    @Override
+    public DataFileFormat getFormat() {
+        return DataFileFormat.BINARY;
+    }
+
+    @Override
+    public void read(Path filePath) throws IOException, IllegalValueException {
+        buffer = FileUtil.readFromFileMapped(filePath);
+        try {
+            int version = readHeader();
+            readPersons();
+            readWeddings();
+            if (version >= BinaryAddressBookStorage.NEXT_WEDDING_ID_VERSION) {
+                nextWeddingId = readVarint();
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException("Unexpected data after the end of the address book");
+            }
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("Unexpected end of the binary data file");
+        } finally {
+            buffer = null;
+        }
+    }
+
+    /**
+     * Reads the header of the data file, and returns the version of the format the rest of the file is in.
+     */
+    private int readHeader() throws IOException {
+        byte[] magic = new byte[BinaryAddressBookStorage.MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, BinaryAddressBookStorage.MAGIC)) {
+            throw new IOException("Not a binary data file");
+        }
+        int version = readVarint();
+        if (version < 1 || version > BinaryAddressBookStorage.FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        return version;
+    }
+
+    private void readPersons() throws IOException, IllegalValueException {
+        int count = readVarint();
+        for (int i = 0; i < count; i++) {
+            String name = readString();
+            String phone = readString();
+            String email = readString();
+            Role role = readRole();
+            Address address = readAddress();
+            int tagCount = readVarint();
+            Set<Tag> personTags = new HashSet<>();
+            for (int j = 0; j < tagCount; j++) {
+                personTags.add(readTag());
+            }
+            persons.add(createValue(() ->
+                    new Person(new Name(name), new Phone(phone), new Email(email), role, address, personTags)));
+        }
+    }
+
+    private void readWeddings() throws IOException, IllegalValueException {
+        int count = readVarint();
+        for (int i = 0; i < count; i++) {
+            String weddingId = readDictionaryString();
+            String weddingName = readString();
+            String weddingDate = readString();
+            String location = readDictionaryString();
+            int taskCount = readVarint();
+            List<JsonAdaptedTask> tasks = new ArrayList<>();
+            for (int j = 0; j < taskCount; j++) {
+                String description = readString();
+                tasks.add(new JsonAdaptedTask(description, buffer.get() != 0));
+            }
+            // Weddings are few, so they are validated in the same way as those read from JSON files.
+            Wedding wedding;
+            try {
+                wedding = new JsonAdaptedWedding(weddingId, weddingName, weddingDate, location, tasks).toModelType();
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(e.getMessage());
+            }
+            weddings.add(wedding);
+        }
+    }
+
+    private Role readRole() throws IOException, IllegalValueException {
+        String value = readDictionaryString();
+        Role role = roles.get(value);
+        if (role == null) {
+            role = createValue(() -> new Role(value));
+            roles.put(value, role);
+        }
+        return role;
+    }
+
+    private Address readAddress() throws IOException, IllegalValueException {
+        String value = readDictionaryString();
+        Address address = addresses.get(value);
+        if (address == null) {
+            address = createValue(() -> new Address(value));
+            addresses.put(value, address);
+        }
+        return address;
+    }
+
+    private Tag readTag() throws IOException, IllegalValueException {
+        String value = readDictionaryString();
+        Tag tag = tags.get(value);
+        if (tag == null) {
+            tag = createValue(() -> new Tag(new WeddingId(value)));
+            tags.put(value, tag);
+        }
+        return tag;
+    }
+
+    /**
+     * Returns the value created by {@code constructor}, which validates it.
+     *
+     * @throws IllegalValueException if the value is invalid.
+     */
+    private static <T> T createValue(Supplier<T> constructor) throws IllegalValueException {
+        try {
+            return constructor.get();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    /**
+     * Reads a string that is either written in full and added to the dictionary, or refers to a dictionary entry.
+     */
+    private String readDictionaryString() throws IOException {
+        int reference = readVarint();
+        if (reference == 0) {
+            String value = readString();
+            dictionary.add(value);
+            return value;
+        }
+        if (reference > dictionary.size()) {
+            throw new IOException("Reference to an unknown string in the binary data file");
+        }
+        return dictionary.get(reference - 1);
+    }
+
+    private String readString() throws IOException {
+        int length = readVarint();
+        if (length > buffer.remaining()) {
+            throw new EOFException("Unexpected end of the binary data file");
+        }
+        if (buffer.hasArray()) {
+            String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+        // A mapped file has no array to decode from, so the string is copied out of it first
+        if (length > stringBytes.length) {
+            stringBytes = new byte[Math.max(length, stringBytes.length * 2)];
+        }
+        buffer.get(stringBytes, 0, length);
+        return new String(stringBytes, 0, length, UTF_8);
+    }
+
+    /**
+     * Reads a non-negative int written in 7-bit groups, least significant group first.
+     */
+    private int readVarint() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = buffer.get();
+            if (shift == 28 && (b & 0xF8) != 0) {
+                break; // the number does not fit in a non-negative int
+            }
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed number in the binary data file");
+    }
+
+}
@@ -0,0 +1,129 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FsyncPolicy;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.wedding.exceptions.TaskLoadingException;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ * <p>
+ * The binary format, described in {@link BinaryAddressBookWriter}, is much faster to read and write than JSON for
+ * large address books. Data files in the JSON format are read as well, so that switching an existing data file to the
+ * binary format only takes a save, and {@link JsonAddressBookStorage} likewise reads binary data files.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The bytes every binary data file starts with. The first is not valid at the start of a JSON file. */
+    static final byte[] MAGIC = {(byte) 0xAB, 'A', 'B', 'K'};
+    /** The version of the binary format written, to be increased whenever the format changes. */
+    static final int FORMAT_VERSION = 2;
+    /** The version of the binary format that starts keeping the next wedding ID after the weddings. */
+    static final int NEXT_WEDDING_ID_VERSION = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final FsyncPolicy fsyncPolicy;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, FsyncPolicy.BATCHED);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that forces the data file onto the storage device according to
+     * {@code fsyncPolicy}.
+     */
+    public BinaryAddressBookStorage(Path filePath, FsyncPolicy fsyncPolicy) {
+        requireNonNull(fsyncPolicy);
+        this.filePath = filePath;
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is a data file in the binary format.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            AddressBookReader reader = AddressBookReader.forFile(filePath);
+            reader.read(filePath);
+            return Optional.of(reader.toAddressBook());
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try {
+            FileUtil.writeToFileAtomically(filePath, out -> BinaryAddressBookWriter.write(addressBook, out),
+                    fsyncPolicy.shouldForceReplacedFiles());
+        } catch (TaskLoadingException tle) {
+            // Tasks still left in storage are loaded to be written, and fail like the rest of the write
+            throw new IOException(tle.getMessage(), tle);
+        }
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Address books are written before saveAddressBook returns, so there is nothing to wait for.
+    }
+
+    @Override
+    public void setWriteFailureListener(Consumer<IOException> listener) {
+        // Address books are written before saveAddressBook returns, which throws any failure itself.
+    }
+
+}
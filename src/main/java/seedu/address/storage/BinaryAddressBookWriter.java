@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingTask;
+
+/**
+ * Writes an address book in the binary format of {@link BinaryAddressBookStorage}.
+ * <p>
+ * The format is a header of {@link BinaryAddressBookStorage#MAGIC} and the format version, followed by the persons
+ * and then the weddings, each list prefixed with its size, and then the number of the next wedding ID. Version 1
+ * of the format ends after the weddings. Counts are written as varints: 7 bits per byte, least
+ * significant group first, with the high bit set on all but the last byte. Strings are written as the varint length
+ * of their UTF-8 encoding followed by the encoding.
+ * <p>
+ * Roles, addresses, wedding ids and wedding locations are often shared, so they go through a dictionary: the first
+ * occurrence of a string is written as 0 followed by the string, which becomes dictionary entry 1, 2, ... in order,
+ * and later occurrences are written as the number of their entry alone.
+ * <p>
+ * A person is written as its name, phone and email, then its role and address, then its number of tags followed by
+ * their wedding ids. A wedding is written as its wedding id, name, date and location, then its number of tasks
+ * followed by their descriptions, each with a byte that is 1 if the task is done or 0 otherwise.
+ */
+class BinaryAddressBookWriter {
+
+    private final OutputStream out;
+    private final Map<String, Integer> dictionary = new HashMap<>();
+
+    private BinaryAddressBookWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, which is left open.
+     *
+     * @throws IOException if there was an error during writing to the stream.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        new BinaryAddressBookWriter(out).writeAddressBook(addressBook);
+    }
+
+    private void writeAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        out.write(BinaryAddressBookStorage.MAGIC);
+        writeVarint(BinaryAddressBookStorage.FORMAT_VERSION);
+
+        List<Person> persons = addressBook.getPersonList();
+        writeVarint(persons.size());
+        for (Person person : persons) {
+            writeString(person.getName().fullName);
+            writeString(person.getPhone().value);
+            writeString(person.getEmail().value);
+            writeDictionaryString(person.getRole().value);
+            writeDictionaryString(person.getAddress().value);
+            writeVarint(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writeDictionaryString(tag.weddingId.value);
+            }
+        }
+
+        List<Wedding> weddings = addressBook.getWeddingList();
+        writeVarint(weddings.size());
+        for (Wedding wedding : weddings) {
+            writeDictionaryString(wedding.getWeddingId().value);
+            writeString(wedding.getWeddingName().fullWeddingName);
+            writeString(wedding.getWeddingDate().value);
+            writeDictionaryString(wedding.getWeddingLocation().venue);
+            writeVarint(wedding.getTasks().size());
+            for (WeddingTask task : wedding.getTasks()) {
+                writeString(task.getDescription());
+                out.write(task.isDone() ? 1 : 0);
+            }
+        }
+
+        writeVarint(addressBook.getNextWeddingId());
+    }
+
+    private void writeDictionaryString(String value) throws IOException {
+        Integer entry = dictionary.get(value);
+        if (entry != null) {
+            writeVarint(entry);
+            return;
+        }
+        writeVarint(0);
+        writeString(value);
+        dictionary.put(value, dictionary.size() + 1);
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        writeVarint(bytes.length);
+        out.write(bytes);
+    }
+
+    private void writeVarint(int value) throws IOException {
+        assert value >= 0;
+        while (value >= 0x80) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+}
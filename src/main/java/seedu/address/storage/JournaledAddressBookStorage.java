@@ -0,0 +1,457 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FsyncPolicy;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingTask;
+import seedu.address.model.wedding.exceptions.TaskLoadingException;
+
+/**
+ * A class to access AddressBook data stored as a snapshot file on the hard disk, together with a journal of the
+ * changes made since the snapshot was written.
+ * <p>
+ * Each save appends a single line to the journal, holding only the persons and weddings that changed since the
+ * previous save. The snapshot is rewritten in full, and the journal emptied, once the journal holds too many entries
+ * or grows larger than the snapshot, so that a save costs at most about twice the size of its changes on average.
+ * The journal is replayed on top of the snapshot when the address book is read.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_MAX_JOURNAL_ENTRIES = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String SNAPSHOT_TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path filePath;
+    private final int maxJournalEntries;
+    private final DataFileFormat snapshotFormat;
+    private final FsyncPolicy fsyncPolicy;
+    private final AddressBookStorage snapshotStorage;
+    private long lastJournalForceMillis;
+
+    // The lists of the address book as last read from or written to filePath, or null if the next save has to
+    // rewrite the snapshot. Persons are immutable and compared by reference, but the tasks of weddings are copied.
+    private List<Person> savedPersons;
+    private List<SavedWedding> savedWeddings;
+    private int savedNextWeddingId;
+    private int journalEntries;
+    private long journalBytes;
+    private long snapshotBytes;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_MAX_JOURNAL_ENTRIES);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that rewrites the snapshot at {@code filePath} once the journal
+     * holds {@code maxJournalEntries} entries.
+     */
+    public JournaledAddressBookStorage(Path filePath, int maxJournalEntries) {
+        this(filePath, maxJournalEntries, true);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that rewrites the snapshot at {@code filePath} once the journal
+     * holds {@code maxJournalEntries} entries, indented over many lines if {@code isSnapshotPrettyPrinted} is true.
+     */
+    public JournaledAddressBookStorage(Path filePath, int maxJournalEntries, boolean isSnapshotPrettyPrinted) {
+        this(filePath, maxJournalEntries, isSnapshotPrettyPrinted, FsyncPolicy.BATCHED);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} like {@link #JournaledAddressBookStorage(Path, int, boolean)},
+     * that forces the snapshot and journal onto the storage device according to {@code fsyncPolicy}.
+     */
+    public JournaledAddressBookStorage(Path filePath, int maxJournalEntries, boolean isSnapshotPrettyPrinted,
+                                       FsyncPolicy fsyncPolicy) {
+        this(filePath, maxJournalEntries, DataFileFormat.JSON, isSnapshotPrettyPrinted, fsyncPolicy);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that rewrites the snapshot at {@code filePath} in
+     * {@code snapshotFormat} once the journal holds {@code maxJournalEntries} entries, indented over many lines if it
+     * is JSON and {@code isSnapshotPrettyPrinted} is true. The snapshot and journal are forced onto the storage device
+     * according to {@code fsyncPolicy}.
+     * Snapshots are read in whichever format they were written, and rewritten in {@code snapshotFormat} on the next
+     * save if it differs. Snapshots cannot be sharded, as sharded data files are not rewritten in full.
+     */
+    public JournaledAddressBookStorage(Path filePath, int maxJournalEntries, DataFileFormat snapshotFormat,
+                                       boolean isSnapshotPrettyPrinted, FsyncPolicy fsyncPolicy) {
+        this(filePath, maxJournalEntries, snapshotFormat, isSnapshotPrettyPrinted, false, fsyncPolicy);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} as above, that compresses JSON snapshots with gzip if
+     * {@code isSnapshotCompressed} is true. Snapshots are read whether they are compressed or not.
+     */
+    public JournaledAddressBookStorage(Path filePath, int maxJournalEntries, DataFileFormat snapshotFormat,
+                                       boolean isSnapshotPrettyPrinted, boolean isSnapshotCompressed,
+                                       FsyncPolicy fsyncPolicy) {
+        requireNonNull(filePath);
+        requireNonNull(snapshotFormat);
+        requireNonNull(fsyncPolicy);
+        checkArgument(snapshotFormat != DataFileFormat.SHARDED, "Snapshots cannot be sharded");
+        this.filePath = filePath;
+        this.maxJournalEntries = maxJournalEntries;
+        this.snapshotFormat = snapshotFormat;
+        this.fsyncPolicy = fsyncPolicy;
+        this.snapshotStorage = snapshotFormat == DataFileFormat.BINARY
+                ? new BinaryAddressBookStorage(filePath, fsyncPolicy)
+                : new JsonAddressBookStorage(filePath, isSnapshotPrettyPrinted, isSnapshotCompressed, fsyncPolicy);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    private static Path getSnapshotTempFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + SNAPSHOT_TEMP_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        recoverInterruptedCompaction(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        Path journalPath = getJournalFilePath(filePath);
+        int replayedEntries;
+        DataFileFormat readFormat;
+        AddressBook addressBook;
+        try {
+            AddressBookReader reader = AddressBookReader.forFile(filePath);
+            reader.read(filePath);
+            readFormat = reader.getFormat();
+            replayedEntries = replayJournal(reader, journalPath);
+            addressBook = reader.toAddressBook();
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            if (replayedEntries >= 0 && readFormat == snapshotFormat) {
+                try {
+                    journalEntries = replayedEntries;
+                    journalBytes = Files.exists(journalPath) ? Files.size(journalPath) : 0;
+                    snapshotBytes = Files.size(filePath);
+                    rememberSaved(addressBook);
+                } catch (IOException ioe) {
+                    forgetSaved();
+                }
+            } else {
+                // An incomplete entry must not be followed by new ones, and a snapshot in another format is
+                // converted, so the next save rewrites the snapshot.
+                forgetSaved();
+            }
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies the entries of the journal at {@code journalPath}, if any, to the address book read by {@code reader}.
+     * An unreadable last entry is taken to be an append interrupted by a crash, and is discarded.
+     *
+     * @return the number of entries applied, or -1 if an entry was discarded.
+     * @throws DataLoadingException if any other entry cannot be read or applied.
+     */
+    private int replayJournal(AddressBookReader reader, Path journalPath) throws DataLoadingException {
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        int entries = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isEmpty()) {
+                continue;
+            }
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Discarding incomplete last entry of journal file " + journalPath);
+                    return -1;
+                }
+                logger.warning("Error reading entry " + (i + 1) + " of journal file " + journalPath + ": " + ioe);
+                throw new DataLoadingException(ioe);
+            }
+            try {
+                reader.replay(entry);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in journal file " + journalPath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            entries++;
+        }
+        return entries;
+    }
+
+    /**
+     * Completes a rewrite of the snapshot at {@code filePath} that was interrupted after the journal was removed,
+     * or discards the new snapshot if the journal was not removed yet.
+     */
+    private static void recoverInterruptedCompaction(Path filePath) throws DataLoadingException {
+        Path tempPath = getSnapshotTempFilePath(filePath);
+        if (!Files.exists(tempPath)) {
+            return;
+        }
+        try {
+            if (Files.exists(getJournalFilePath(filePath))) {
+                Files.delete(tempPath);
+            } else {
+                logger.info("Completing interrupted write of " + filePath);
+                FileUtil.moveAtomically(tempPath, filePath);
+            }
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        try {
+            writeChanges(addressBook, filePath);
+        } catch (TaskLoadingException tle) {
+            // Tasks still left in storage are loaded to be compared or written, and fail like the rest of the write
+            throw new IOException(tle.getMessage(), tle);
+        }
+    }
+
+    /**
+     * Appends the changes made to {@code addressBook} since the last save to the journal, or rewrites the snapshot
+     * at {@code filePath} if the journal is full or {@code filePath} is not the file path of this storage.
+     */
+    private void writeChanges(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+        if (savedPersons == null) {
+            compact(addressBook);
+            return;
+        }
+
+        JsonAdaptedJournalEntry entry = createJournalEntry(addressBook);
+        if (entry == null) {
+            return;
+        }
+        byte[] line = (JsonUtil.toJsonLine(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+        if (journalEntries >= maxJournalEntries || journalBytes + line.length > snapshotBytes) {
+            compact(addressBook);
+            return;
+        }
+
+        Path journalPath = getJournalFilePath(filePath);
+        FileUtil.createParentDirsOfFile(journalPath);
+        long now = System.currentTimeMillis();
+        boolean isForced = fsyncPolicy.shouldForce(now - lastJournalForceMillis);
+        FileUtil.appendToFile(journalPath, line, isForced);
+        if (isForced) {
+            lastJournalForceMillis = now;
+        }
+        journalEntries++;
+        journalBytes += line.length;
+        rememberSaved(addressBook);
+    }
+
+    /**
+     * Rewrites the snapshot at the file path of this storage and empties its journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        forgetSaved();
+        writeSnapshot(addressBook, filePath);
+        journalEntries = 0;
+        journalBytes = 0;
+        snapshotBytes = Files.size(filePath);
+        rememberSaved(addressBook);
+    }
+
+    /**
+     * Writes {@code addressBook} as the snapshot at {@code filePath}, replacing the snapshot and journal there.
+     * The snapshot is written to a temporary file first, while the journal marks the temporary file as incomplete,
+     * and moved over the old snapshot in a single step once the journal is removed.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        Path journalPath = getJournalFilePath(filePath);
+        Path tempPath = getSnapshotTempFilePath(filePath);
+        FileUtil.createIfMissing(journalPath);
+        snapshotStorage.saveAddressBook(addressBook, tempPath);
+        Files.delete(journalPath);
+        FileUtil.moveAtomically(tempPath, filePath);
+        if (fsyncPolicy.shouldForceReplacedFiles()) {
+            FileUtil.forceDirectoryOf(filePath);
+        }
+    }
+
+    /**
+     * Returns the changes made to {@code addressBook} since it was last saved, or null if there are none.
+     */
+    private JsonAdaptedJournalEntry createJournalEntry(ReadOnlyAddressBook addressBook) {
+        List<Person> persons = addressBook.getPersonList();
+        List<Wedding> weddings = addressBook.getWeddingList();
+        int[] personChange = findChangedRange(savedPersons, persons, (saved, current) -> saved == current);
+        int[] weddingChange = findChangedRange(savedWeddings, weddings, SavedWedding::isSavedStateOf);
+        // The next wedding ID changes without the weddings when a wedding is added and deleted between saves
+        Integer nextWeddingId = addressBook.getNextWeddingId();
+        if (nextWeddingId == savedNextWeddingId) {
+            nextWeddingId = null;
+        }
+        if (personChange == null && weddingChange == null && nextWeddingId == null) {
+            return null;
+        }
+
+        Integer personIndex = null;
+        int personsRemoved = 0;
+        List<JsonAdaptedPerson> insertedPersons = new ArrayList<>();
+        if (personChange != null) {
+            personIndex = personChange[0];
+            personsRemoved = personChange[1];
+            insertedPersons = persons.subList(personChange[0], personChange[2]).stream()
+                    .map(JsonAdaptedPerson::new).collect(Collectors.toList());
+        }
+
+        Integer weddingIndex = null;
+        int weddingsRemoved = 0;
+        List<JsonAdaptedWedding> insertedWeddings = new ArrayList<>();
+        if (weddingChange != null) {
+            weddingIndex = weddingChange[0];
+            weddingsRemoved = weddingChange[1];
+            insertedWeddings = weddings.subList(weddingChange[0], weddingChange[2]).stream()
+                    .map(JsonAdaptedWedding::new).collect(Collectors.toList());
+        }
+
+        return new JsonAdaptedJournalEntry(personIndex, personsRemoved, insertedPersons,
+                weddingIndex, weddingsRemoved, insertedWeddings, nextWeddingId);
+    }
+
+    /**
+     * Returns the range of {@code current} that differs from {@code saved}, as the index where the range starts,
+     * the number of entries of {@code saved} it replaces and the index in {@code current} where it ends.
+     * Returns null if the lists do not differ.
+     */
+    private static <S, T> int[] findChangedRange(List<S> saved, List<T> current, BiPredicate<S, T> isUnchanged) {
+        int commonLength = Math.min(saved.size(), current.size());
+        int start = 0;
+        while (start < commonLength && isUnchanged.test(saved.get(start), current.get(start))) {
+            start++;
+        }
+        int savedEnd = saved.size();
+        int currentEnd = current.size();
+        while (savedEnd > start && currentEnd > start
+                && isUnchanged.test(saved.get(savedEnd - 1), current.get(currentEnd - 1))) {
+            savedEnd--;
+            currentEnd--;
+        }
+        if (savedEnd == start && currentEnd == start) {
+            return null;
+        }
+        return new int[] {start, savedEnd - start, currentEnd};
+    }
+
+    private void rememberSaved(ReadOnlyAddressBook addressBook) {
+        savedPersons = new ArrayList<>(addressBook.getPersonList());
+        savedWeddings = addressBook.getWeddingList().stream().map(SavedWedding::new).collect(Collectors.toList());
+        savedNextWeddingId = addressBook.getNextWeddingId();
+    }
+
+    private void forgetSaved() {
+        savedPersons = null;
+        savedWeddings = null;
+    }
+
+    /**
+     * A wedding as it was saved. Weddings are changed in place when their tasks are added, removed or marked,
+     * so the tasks are copied. Weddings are compared by value, as the address book saved may be a copy.
+     */
+    private static class SavedWedding {
+        private final Wedding wedding;
+        private final List<WeddingTask> tasks = new ArrayList<>();
+
+        SavedWedding(Wedding wedding) {
+            this.wedding = wedding;
+            for (WeddingTask task : wedding.getTasks()) {
+                WeddingTask copy = new WeddingTask(task.getDescription());
+                if (task.isDone()) {
+                    copy.markAsDone();
+                }
+                tasks.add(copy);
+            }
+        }
+
+        boolean isSavedStateOf(Wedding current) {
+            return wedding.equals(current) && tasks.equals(current.getTasks());
+        }
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Address books are written before saveAddressBook returns, so there is nothing to wait for.
+    }
+
+    @Override
+    public void setWriteFailureListener(Consumer<IOException> listener) {
+        // Address books are written before saveAddressBook returns, which throws any failure itself.
+    }
+
+}
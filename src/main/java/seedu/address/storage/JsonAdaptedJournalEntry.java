@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * Jackson-friendly version of the changes made to an address book between two saves, as journaled by
+ * {@link JournaledAddressBookStorage}.
+ * Each list is changed by replacing {@code removed} entries, starting from {@code index}, with the given entries.
+ * A list without an index is left unchanged, and so is the next wedding ID if the entry does not have one.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_ENTRY_OUT_OF_BOUNDS = "Journal entry does not fit the %s list.";
+
+    private final Integer personIndex;
+    private final int personsRemoved;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    private final Integer weddingIndex;
+    private final int weddingsRemoved;
+    private final List<JsonAdaptedWedding> weddings = new ArrayList<>();
+
+    private final Integer nextWeddingId;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("personIndex") Integer personIndex,
+                                   @JsonProperty("personsRemoved") int personsRemoved,
+                                   @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                   @JsonProperty("weddingIndex") Integer weddingIndex,
+                                   @JsonProperty("weddingsRemoved") int weddingsRemoved,
+                                   @JsonProperty("weddings") List<JsonAdaptedWedding> weddings,
+                                   @JsonProperty("nextWeddingId") Integer nextWeddingId) {
+        this.personIndex = personIndex;
+        this.personsRemoved = personsRemoved;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        this.weddingIndex = weddingIndex;
+        this.weddingsRemoved = weddingsRemoved;
+        if (weddings != null) {
+            this.weddings.addAll(weddings);
+        }
+        this.nextWeddingId = nextWeddingId;
+    }
+
+    /**
+     * Returns the number of the ID of the next new wedding after the changes, or null if it is unchanged.
+     */
+    public Integer getNextWeddingId() {
+        return nextWeddingId;
+    }
+
+    /**
+     * Applies the changes of this entry to the given lists of an address book being read.
+     *
+     * @throws IllegalValueException if the changes fall outside the lists, or there were any data constraints
+     *     violated in the persons or weddings inserted.
+     */
+    public void applyTo(List<Person> personList, List<Wedding> weddingList) throws IllegalValueException {
+        if (personIndex != null) {
+            List<Person> insertedPersons = new ArrayList<>(persons.size());
+            for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+                insertedPersons.add(jsonAdaptedPerson.toModelType());
+            }
+            splice(personList, personIndex, personsRemoved, insertedPersons, "persons");
+        }
+        if (weddingIndex != null) {
+            List<Wedding> insertedWeddings = new ArrayList<>(weddings.size());
+            for (JsonAdaptedWedding jsonAdaptedWedding : weddings) {
+                insertedWeddings.add(jsonAdaptedWedding.toModelType());
+            }
+            splice(weddingList, weddingIndex, weddingsRemoved, insertedWeddings, "weddings");
+        }
+    }
+
+    private static <T> void splice(List<T> list, int index, int removed, List<T> inserted, String listName)
+            throws IllegalValueException {
+        if (index < 0 || removed < 0 || index + removed > list.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_ENTRY_OUT_OF_BOUNDS, listName));
+        }
+        list.subList(index, index + removed).clear();
+        list.addAll(index, inserted);
+    }
+
+}
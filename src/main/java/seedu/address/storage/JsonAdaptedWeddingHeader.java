@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingTaskLoader;
+
+/**
+ * Jackson-friendly version of a {@link Wedding} without its tasks, as listed in the manifest of a
+ * {@link ShardedAddressBookStorage}. The tasks are kept in a file of their own, named by {@code tasksFile},
+ * which is null if the wedding has no tasks.
+ */
+class JsonAdaptedWeddingHeader {
+
+    private final String weddingId;
+    private final String weddingName;
+    private final String weddingDate;
+    private final String location;
+    private final String tasksFile;
+
+    /**
+     * Constructs a {@code JsonAdaptedWeddingHeader} with the given wedding details.
+     */
+    @JsonCreator
+    public JsonAdaptedWeddingHeader(@JsonProperty("weddingId") String weddingId,
+                                    @JsonProperty("weddingName") String weddingName,
+                                    @JsonProperty("weddingDate") String weddingDate,
+                                    @JsonProperty("location") String location,
+                                    @JsonProperty("tasksFile") String tasksFile) {
+        this.weddingId = weddingId;
+        this.weddingName = weddingName;
+        this.weddingDate = weddingDate;
+        this.location = location;
+        this.tasksFile = tasksFile;
+    }
+
+    /**
+     * Converts a given {@code Wedding}, whose tasks are kept in {@code tasksFile}, into this class for Jackson use.
+     */
+    public JsonAdaptedWeddingHeader(Wedding source, String tasksFile) {
+        this.weddingId = source.getWeddingId().value;
+        this.weddingName = source.getWeddingName().fullWeddingName;
+        this.weddingDate = source.getWeddingDate().value;
+        this.location = source.getWeddingLocation().venue;
+        this.tasksFile = tasksFile;
+    }
+
+    public String getTasksFile() {
+        return tasksFile;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted wedding header into the model's {@code Wedding} object, whose tasks
+     * are loaded by {@code taskLoader} when they are first accessed. The wedding has no tasks if there is no tasks
+     * file.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted wedding header.
+     */
+    public Wedding toModelType(WeddingTaskLoader taskLoader) throws IllegalValueException {
+        Wedding wedding = new JsonAdaptedWedding(weddingId, weddingName, weddingDate, location, null).toModelType();
+        if (tasksFile == null) {
+            return wedding;
+        }
+        return new Wedding(wedding.getWeddingId(), wedding.getWeddingName(), wedding.getWeddingDate(),
+                wedding.getWeddingLocation(), taskLoader);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof JsonAdaptedWeddingHeader)) {
+            return false;
+        }
+        JsonAdaptedWeddingHeader o = (JsonAdaptedWeddingHeader) other;
+        return Objects.equals(weddingId, o.weddingId)
+                && Objects.equals(weddingName, o.weddingName)
+                && Objects.equals(weddingDate, o.weddingDate)
+                && Objects.equals(location, o.location)
+                && Objects.equals(tasksFile, o.tasksFile);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(weddingId, weddingName, weddingDate, location, tasksFile);
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Reads an address book from a JSON file in the format of {@link JsonSerializableAddressBook}, one person or
+ * wedding at a time.
+ * <p>
+ * Persons and weddings are converted into the model a batch at a time, on many threads while the next batch is
+ * read, so that the Jackson-friendly form of the file is never held in memory as a whole. Large files are parsed
+ * straight from a memory mapping of the file.
+ */
+class JsonAddressBookReader extends AddressBookReader {
+
+    public static final String MESSAGE_MISSING_ENTRY = "%s list contains an empty entry.";
+
+    // The number of entries read before they are handed over to be converted, which bounds the entries held at once
+    private static final int CONVERSION_BATCH_SIZE = 4096;
+
+    @Override
+    public DataFileFormat getFormat() {
+        return DataFileFormat.JSON;
+    }
+
+    @Override
+    public void read(Path filePath) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (fieldName.equals("persons")) {
+                    readPersons(parser);
+                } else if (fieldName.equals("weddings")) {
+                    readWeddings(parser);
+                } else if (fieldName.equals("nextWeddingId") && parser.getCurrentToken() != JsonToken.VALUE_NULL) {
+                    if (parser.getCurrentToken() != JsonToken.VALUE_NUMBER_INT) {
+                        throw new JsonParseException(parser, "Expected the number of the next wedding ID");
+                    }
+                    nextWeddingId = parser.getIntValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Unexpected end of the address book object");
+            }
+        }
+    }
+
+    private void readPersons(JsonParser parser) throws IOException, IllegalValueException {
+        readEntries(parser, "persons", JsonAdaptedPerson.class, JsonAdaptedPerson::toModelType, persons);
+    }
+
+    private void readWeddings(JsonParser parser) throws IOException, IllegalValueException {
+        readEntries(parser, "weddings", JsonAdaptedWedding.class, JsonAdaptedWedding::toModelType, weddings);
+    }
+
+    /**
+     * Reads the array of {@code fieldName} at the parser, and adds its entries to {@code list} once they are
+     * converted into the model with {@code converter}.
+     * Entries are converted a batch at a time, in parallel, while the next batch is being read.
+     */
+    private static <A, M> void readEntries(JsonParser parser, String fieldName, Class<A> type,
+            ParallelConversion.Converter<A, M> converter, List<M> list) throws IOException, IllegalValueException {
+        if (!startArray(parser, fieldName)) {
+            return;
+        }
+        List<A> batch = new ArrayList<>(CONVERSION_BATCH_SIZE);
+        ParallelConversion<A, M> pendingBatch = null;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            A entry = parser.readValueAs(type);
+            if (entry == null) {
+                // Entries before the empty one are reported first if they are invalid, as when read one at a time
+                if (pendingBatch != null) {
+                    pendingBatch.join();
+                }
+                ParallelConversion.start(batch, converter).join();
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_ENTRY,
+                        Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1)));
+            }
+            batch.add(entry);
+            if (batch.size() == CONVERSION_BATCH_SIZE) {
+                if (pendingBatch != null) {
+                    list.addAll(pendingBatch.join());
+                }
+                pendingBatch = ParallelConversion.start(batch, converter);
+                batch = new ArrayList<>(CONVERSION_BATCH_SIZE);
+            }
+        }
+        if (pendingBatch != null) {
+            list.addAll(pendingBatch.join());
+        }
+        list.addAll(ParallelConversion.start(batch, converter).join());
+    }
+
+    /**
+     * Returns true if the parser is at the start of an array, or false if it is at a null list.
+     */
+    private static boolean startArray(JsonParser parser, String fieldName) throws JsonParseException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of " + fieldName);
+        }
+        return true;
+    }
+
+}
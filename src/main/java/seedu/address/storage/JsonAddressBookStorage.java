@@ -3,16 +3,20 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.FileUtil.ContentWriter;
+import seedu.address.commons.util.FsyncPolicy;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.wedding.exceptions.TaskLoadingException;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -22,9 +26,43 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final boolean isCompressed;
+    private final FsyncPolicy fsyncPolicy;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that writes the data file indented over many lines if
+     * {@code isPrettyPrinted} is true, or compactly otherwise.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, FsyncPolicy.BATCHED);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that writes the data file indented over many lines if
+     * {@code isPrettyPrinted} is true, and forces it onto the storage device according to {@code fsyncPolicy}.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, FsyncPolicy fsyncPolicy) {
+        this(filePath, isPrettyPrinted, false, fsyncPolicy);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that writes the data file indented over many lines if
+     * {@code isPrettyPrinted} is true, compressed with gzip if {@code isCompressed} is true, and forces it onto the
+     * storage device according to {@code fsyncPolicy}.
+     * Data files are read whether they are compressed or not.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, boolean isCompressed,
+                                  FsyncPolicy fsyncPolicy) {
+        requireNonNull(fsyncPolicy);
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.isCompressed = isCompressed;
+        this.fsyncPolicy = fsyncPolicy;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +83,20 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
+        // Converts the persons and weddings one at a time, instead of reading the whole file at once.
+        // Data files in the binary format are read too, so that they are converted back to JSON on the next save.
+        // Compressed data files are decompressed as they are read.
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            AddressBookReader reader = AddressBookReader.forFile(filePath);
+            reader.read(filePath);
+            return Optional.of(reader.toAddressBook());
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +117,28 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        ContentWriter contentWriter = out -> JsonAddressBookWriter.write(addressBook, out, isPrettyPrinted);
+        if (isCompressed) {
+            contentWriter = FileUtil.gzipCompressed(contentWriter);
+        }
+        // The file is replaced only once it is completely written, so a crash never leaves it half written.
+        try {
+            FileUtil.writeToFileAtomically(filePath, contentWriter, fsyncPolicy.shouldForceReplacedFiles());
+        } catch (TaskLoadingException tle) {
+            // Tasks still left in storage are loaded to be written, and fail like the rest of the write
+            throw new IOException(tle.getMessage(), tle);
+        }
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Address books are written before saveAddressBook returns, so there is nothing to wait for.
+    }
+
+    @Override
+    public void setWriteFailureListener(Consumer<IOException> listener) {
+        // Address books are written before saveAddressBook returns, which throws any failure itself.
     }
 
 }
@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * Writes an address book to a JSON file in the format of {@link JsonSerializableAddressBook}, one person or
+ * wedding at a time.
+ * <p>
+ * Each person and wedding is converted into its Jackson-friendly form just before it is written, and written
+ * straight to the output stream, so that neither the Jackson-friendly form of the whole address book nor the
+ * contents of the file are held in memory.
+ */
+class JsonAddressBookWriter {
+
+    private static final ObjectWriter PERSON_WRITER = JsonUtil.createValueWriter(JsonAdaptedPerson.class);
+    private static final ObjectWriter WEDDING_WRITER = JsonUtil.createValueWriter(JsonAdaptedWedding.class);
+
+    private JsonAddressBookWriter() {} // prevents instantiation
+
+    /**
+     * Writes {@code addressBook} to {@code out}, which is left open.
+     * The output is indented over many lines if {@code isPrettyPrinted} is true.
+     *
+     * @throws IOException if there was an error during writing to the stream.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean isPrettyPrinted)
+            throws IOException {
+        write(addressBook.getPersonList(), addressBook.getWeddingList(), addressBook.getNextWeddingId(), out,
+                isPrettyPrinted);
+    }
+
+    /**
+     * Writes an address book with the given {@code persons} and {@code weddings} to {@code out}, which is left open.
+     * The output is indented over many lines if {@code isPrettyPrinted} is true.
+     *
+     * @throws IOException if there was an error during writing to the stream.
+     */
+    public static void write(List<Person> persons, List<Wedding> weddings, OutputStream out, boolean isPrettyPrinted)
+            throws IOException {
+        write(persons, weddings, null, out, isPrettyPrinted);
+    }
+
+    /**
+     * Writes the given {@code persons} and {@code weddings}, followed by {@code nextWeddingId} unless it is null.
+     */
+    private static void write(List<Person> persons, List<Wedding> weddings, Integer nextWeddingId, OutputStream out,
+            boolean isPrettyPrinted) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(out, isPrettyPrinted)) {
+            generator.writeStartObject();
+
+            generator.writeFieldName("persons");
+            generator.writeStartArray();
+            for (Person person : persons) {
+                PERSON_WRITER.writeValue(generator, new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+
+            generator.writeFieldName("weddings");
+            generator.writeStartArray();
+            for (Wedding wedding : weddings) {
+                WEDDING_WRITER.writeValue(generator, new JsonAdaptedWedding(wedding));
+            }
+            generator.writeEndArray();
+
+            if (nextWeddingId != null) {
+                generator.writeNumberField("nextWeddingId", nextWeddingId);
+            }
+
+            generator.writeEndObject();
+        }
+    }
+
+}
@@ -22,10 +22,13 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_WEDDING = "Weddings list contains duplicate wedding(s).";
+    public static final String MESSAGE_INVALID_NEXT_WEDDING_ID = "Next wedding ID is not a positive number.";
 
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedWedding> weddings = new ArrayList<>();
+    // Absent from data files saved before it was kept, when it follows from the weddings in the file
+    private final Integer nextWeddingId;
 
 
     /**
@@ -33,9 +36,11 @@ class JsonSerializableAddressBook {
      */
     @JsonCreator
     public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
-                                       @JsonProperty("weddings") List<JsonAdaptedWedding> weddings) {
+                                       @JsonProperty("weddings") List<JsonAdaptedWedding> weddings,
+                                       @JsonProperty("nextWeddingId") Integer nextWeddingId) {
         this.persons.addAll(persons);
         this.weddings.addAll(weddings);
+        this.nextWeddingId = nextWeddingId;
     }
 
     /**
@@ -48,6 +53,7 @@ class JsonSerializableAddressBook {
         weddings.addAll(source.getWeddingList().stream()
                 .map(JsonAdaptedWedding::new)
                 .collect(Collectors.toList()));
+        nextWeddingId = source.getNextWeddingId();
     }
 
     /**
@@ -56,20 +62,28 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        // Persons and weddings are validated and converted in parallel, and then added in order
+        List<Person> modelPersons = ParallelConversion.start(persons, JsonAdaptedPerson::toModelType).join();
+        List<Wedding> modelWeddings = ParallelConversion.start(weddings, JsonAdaptedWedding::toModelType).join();
+
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+        for (Person person : modelPersons) {
             // Force-add the person if user gives the confirmation
             addressBook.addPerson(person, true);
         }
 
-        for (JsonAdaptedWedding jsonAdaptedWedding : weddings) {
-            Wedding wedding = jsonAdaptedWedding.toModelType();
+        for (Wedding wedding : modelWeddings) {
             if (addressBook.hasWedding(wedding)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_WEDDING);
             }
             addressBook.addWedding(wedding);
         }
+        if (nextWeddingId != null) {
+            if (nextWeddingId < 1) {
+                throw new IllegalValueException(MESSAGE_INVALID_NEXT_WEDDING_ID);
+            }
+            addressBook.setNextWeddingId(nextWeddingId);
+        }
 
         return addressBook;
     }
@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link ShardedAddressBookStorage}, which names the files the
+ * persons and the tasks of each wedding are kept in. The files are written before the manifest that names them,
+ * so the manifest always describes a complete address book.
+ */
+class JsonShardManifest {
+
+    /** The name of the field every manifest starts with, which tells it apart from other data files. */
+    public static final String VERSION_FIELD = "manifestVersion";
+
+    private final int manifestVersion;
+    private final long generation;
+    private final String personsFile;
+    private final List<JsonAdaptedWeddingHeader> weddings = new ArrayList<>();
+    private final Integer nextWeddingId;
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty(VERSION_FIELD) int manifestVersion,
+                             @JsonProperty("generation") long generation,
+                             @JsonProperty("personsFile") String personsFile,
+                             @JsonProperty("weddings") List<JsonAdaptedWeddingHeader> weddings,
+                             @JsonProperty("nextWeddingId") Integer nextWeddingId) {
+        this.manifestVersion = manifestVersion;
+        this.generation = generation;
+        this.personsFile = personsFile;
+        if (weddings != null) {
+            this.weddings.addAll(weddings);
+        }
+        this.nextWeddingId = nextWeddingId;
+    }
+
+    public int getManifestVersion() {
+        return manifestVersion;
+    }
+
+    /**
+     * Returns the number of the save that wrote this manifest. Files written by a save are named with its number,
+     * so that they never replace the files named by the manifest they are to replace.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the name of the file the persons are kept in.
+     */
+    public String getPersonsFile() {
+        return personsFile;
+    }
+
+    public List<JsonAdaptedWeddingHeader> getWeddings() {
+        return Collections.unmodifiableList(weddings);
+    }
+
+    /**
+     * Returns the number of the ID of the next new wedding, or null if the manifest was written before it was kept.
+     */
+    public Integer getNextWeddingId() {
+        return nextWeddingId;
+    }
+
+}
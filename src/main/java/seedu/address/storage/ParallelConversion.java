@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts a list of Jackson-friendly entries into the model on the threads of the common fork-join pool, while the
+ * thread that started the conversion goes on, e.g. to read the next entries.
+ * <p>
+ * The list is split into ranges that are converted concurrently, each into its own part of the result, so the
+ * entries converted are in the same order as the entries given, and an invalid entry is reported as the first
+ * invalid entry in the list, however the ranges were scheduled.
+ *
+ * @param <A> the type of the Jackson-friendly entries.
+ * @param <M> the type of the entries in the model.
+ */
+class ParallelConversion<A, M> {
+
+    // Ranges of at most this many entries are converted on a single thread, as splitting them costs more than it saves
+    private static final int MAX_SEQUENTIAL_ENTRIES = 256;
+
+    private final List<A> entries;
+    private final Converter<A, M> converter;
+    private final Object[] converted;
+    private final IllegalValueException[] failures;
+    private final ForkJoinTask<Void> task;
+
+    private ParallelConversion(List<A> entries, Converter<A, M> converter) {
+        this.entries = entries;
+        this.converter = converter;
+        this.converted = new Object[entries.size()];
+        this.failures = new IllegalValueException[entries.size()];
+        this.task = ForkJoinPool.commonPool().submit(new ConvertRange(0, entries.size()));
+    }
+
+    /**
+     * Starts converting {@code entries} with {@code converter}, which must be safe to call from many threads at once.
+     * {@code entries} must not be changed until the conversion is joined.
+     */
+    public static <A, M> ParallelConversion<A, M> start(List<A> entries, Converter<A, M> converter) {
+        return new ParallelConversion<>(entries, converter);
+    }
+
+    /**
+     * Waits for the conversion to finish, and returns the converted entries in the order of the entries given.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the entries, for the first
+     *     entry in the list that violated them.
+     */
+    @SuppressWarnings("unchecked")
+    public List<M> join() throws IllegalValueException {
+        task.join();
+        for (IllegalValueException failure : failures) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        return (List<M>) Arrays.asList(converted);
+    }
+
+    /**
+     * Converts a Jackson-friendly entry into the model.
+     */
+    @FunctionalInterface
+    interface Converter<A, M> {
+        M convert(A entry) throws IllegalValueException;
+    }
+
+    /**
+     * Converts the entries from {@code start} up to {@code end}, splitting the range in half until it is small.
+     * A range stops at its first invalid entry, as only the first invalid entry of the list is reported.
+     */
+    private class ConvertRange extends RecursiveAction {
+        private final int start;
+        private final int end;
+
+        ConvertRange(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > MAX_SEQUENTIAL_ENTRIES) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new ConvertRange(start, middle), new ConvertRange(middle, end));
+                return;
+            }
+            for (int i = start; i < end; i++) {
+                try {
+                    converted[i] = converter.convert(entries.get(i));
+                } catch (IllegalValueException ive) {
+                    failures[i] = ive;
+                    return;
+                }
+            }
+        }
+    }
+
+}
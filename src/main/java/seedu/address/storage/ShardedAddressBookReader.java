@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.wedding.WeddingTask;
+import seedu.address.model.wedding.exceptions.TaskLoadingException;
+
+/**
+ * Reads an address book from the manifest of a {@link ShardedAddressBookStorage} and the files it names.
+ * <p>
+ * The persons are read at once, but the tasks of each wedding are left in their file until they are first accessed.
+ */
+class ShardedAddressBookReader extends AddressBookReader {
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported version %d of the shard manifest.";
+
+    // Enough of the start of a file to hold the version field of a manifest, however it is indented
+    private static final int MANIFEST_PREFIX_LENGTH = 64;
+
+    private JsonShardManifest manifest;
+
+    /**
+     * Returns true if the file at {@code filePath} is the manifest of a {@link ShardedAddressBookStorage}.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    public static boolean isManifestFile(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            String prefix = new String(in.readNBytes(MANIFEST_PREFIX_LENGTH), UTF_8).strip();
+            return prefix.startsWith("{")
+                    && prefix.substring(1).strip().startsWith("\"" + JsonShardManifest.VERSION_FIELD + "\"");
+        }
+    }
+
+    @Override
+    public DataFileFormat getFormat() {
+        return DataFileFormat.SHARDED;
+    }
+
+    /**
+     * Returns the manifest read, or null if nothing was read yet.
+     */
+    public JsonShardManifest getManifest() {
+        return manifest;
+    }
+
+    @Override
+    public void read(Path filePath) throws IOException, IllegalValueException {
+        manifest = JsonUtil.fromJsonString(FileUtil.readFromFile(filePath), JsonShardManifest.class);
+        if (manifest.getManifestVersion() != ShardedAddressBookStorage.MANIFEST_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION,
+                    manifest.getManifestVersion()));
+        }
+        Path shardDirectory = ShardedAddressBookStorage.getShardDirectoryPath(filePath);
+        nextWeddingId = manifest.getNextWeddingId();
+
+        if (manifest.getPersonsFile() != null) {
+            Path personsPath = shardDirectory.resolve(manifest.getPersonsFile());
+            AddressBookReader personsReader = AddressBookReader.forFile(personsPath);
+            personsReader.read(personsPath);
+            persons.addAll(personsReader.persons);
+        }
+
+        for (JsonAdaptedWeddingHeader header : manifest.getWeddings()) {
+            if (header == null) {
+                throw new IllegalValueException(String.format(JsonAddressBookReader.MESSAGE_MISSING_ENTRY,
+                        "Weddings"));
+            }
+            weddings.add(header.toModelType(header.getTasksFile() == null ? null
+                    : () -> loadTasks(shardDirectory.resolve(header.getTasksFile()))));
+        }
+    }
+
+    /**
+     * Returns the tasks kept in the file at {@code tasksPath}.
+     *
+     * @throws IOException if the file cannot be read or is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static List<WeddingTask> readTasks(Path tasksPath) throws IOException, IllegalValueException {
+        JsonAdaptedTask[] jsonAdaptedTasks = JsonUtil.fromJsonString(FileUtil.readFromFile(tasksPath),
+                JsonAdaptedTask[].class);
+        List<WeddingTask> tasks = new ArrayList<>(jsonAdaptedTasks.length);
+        for (JsonAdaptedTask jsonAdaptedTask : jsonAdaptedTasks) {
+            if (jsonAdaptedTask == null) {
+                throw new IllegalValueException(String.format(JsonAddressBookReader.MESSAGE_MISSING_ENTRY, "Tasks"));
+            }
+            tasks.add(jsonAdaptedTask.toModelType());
+        }
+        return tasks;
+    }
+
+    private static List<WeddingTask> loadTasks(Path tasksPath) {
+        try {
+            return readTasks(tasksPath);
+        } catch (IOException | IllegalValueException e) {
+            throw new TaskLoadingException("Could not load the wedding tasks in " + tasksPath + ": " + e.getMessage(),
+                    e);
+        }
+    }
+
+}
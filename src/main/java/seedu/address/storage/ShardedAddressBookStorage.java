@@ -0,0 +1,355 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FsyncPolicy;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingTask;
+import seedu.address.model.wedding.exceptions.TaskLoadingException;
+
+/**
+ * A class to access AddressBook data stored on the hard disk in shards: a manifest at the file path of the storage,
+ * and a directory next to it with a file of persons and a file of tasks for each wedding with tasks.
+ * <p>
+ * A save only writes the files whose contents changed since the last save, under new names, and then replaces the
+ * manifest to name them, in a single step. Files no longer named by the manifest are then removed, so a crash
+ * leaves either the old or the new address book. Reading leaves the tasks of each wedding in their file until they
+ * are first accessed, so large address books open without reading the tasks of every wedding.
+ * <p>
+ * Data files in the JSON and binary formats are read as well, and replaced by a manifest on the next save, while
+ * {@link JsonAddressBookStorage} and {@link BinaryAddressBookStorage} likewise read a manifest.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    /** The version of the manifest written, to be increased whenever the layout of the shards changes. */
+    static final int MANIFEST_VERSION = 1;
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isPrettyPrinted;
+    private final FsyncPolicy fsyncPolicy;
+
+    // The shards at filePath as they were last read or saved, or null if they are unknown
+    private long generation;
+    private String savedPersonsFile;
+    private List<Person> savedPersons;
+    private List<JsonAdaptedWeddingHeader> savedHeaders;
+    private Map<Wedding, SavedShard> savedShards;
+    private int savedNextWeddingId;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, true, FsyncPolicy.BATCHED);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} whose files are indented over many lines if
+     * {@code isPrettyPrinted} is true, and forced onto the storage device according to {@code fsyncPolicy}.
+     */
+    public ShardedAddressBookStorage(Path filePath, boolean isPrettyPrinted, FsyncPolicy fsyncPolicy) {
+        requireNonNull(fsyncPolicy);
+        this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the directory holding the shards named by the manifest at {@code manifestPath}.
+     */
+    public static Path getShardDirectoryPath(Path manifestPath) {
+        return manifestPath.resolveSibling(manifestPath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        AddressBookReader reader;
+        AddressBook addressBook;
+        try {
+            reader = AddressBookReader.forFile(filePath);
+            reader.read(filePath);
+            addressBook = reader.toAddressBook();
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            if (reader instanceof ShardedAddressBookReader) {
+                rememberSaved(((ShardedAddressBookReader) reader).getManifest(), addressBook);
+            } else {
+                // A data file in another format is converted, so the next save writes every shard.
+                forgetSaved();
+            }
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        try {
+            writeShards(addressBook, filePath);
+        } catch (TaskLoadingException tle) {
+            // Tasks still left in storage are loaded to be compared or written, and fail like the rest of the write
+            throw new IOException(tle.getMessage(), tle);
+        }
+    }
+
+    /**
+     * Writes the shards of {@code addressBook} that changed since the last save, and then the manifest at
+     * {@code filePath} naming them.
+     */
+    private void writeShards(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        boolean isSavedHere = filePath.equals(this.filePath);
+        boolean isIncremental = isSavedHere && savedPersons != null;
+        long newGeneration = (isIncremental ? generation : readGeneration(filePath)) + 1;
+        Path shardDirectory = getShardDirectoryPath(filePath);
+        Files.createDirectories(shardDirectory);
+        boolean isForced = fsyncPolicy.shouldForceReplacedFiles();
+        boolean isChanged = !isIncremental;
+
+        List<Person> persons = addressBook.getPersonList();
+        String personsFile = isIncremental ? savedPersonsFile : null;
+        if (!isIncremental || !isSavedStateOf(persons)) {
+            personsFile = "persons-" + newGeneration + ".json";
+            FileUtil.writeToFileAtomically(shardDirectory.resolve(personsFile),
+                out -> JsonAddressBookWriter.write(persons, Collections.emptyList(), out, isPrettyPrinted), isForced);
+            isChanged = true;
+        }
+
+        List<Wedding> weddings = addressBook.getWeddingList();
+        List<JsonAdaptedWeddingHeader> headers = new ArrayList<>(weddings.size());
+        Map<Wedding, SavedShard> shards = new HashMap<>();
+        for (int i = 0; i < weddings.size(); i++) {
+            Wedding wedding = weddings.get(i);
+            SavedShard savedShard = isIncremental ? savedShards.get(wedding) : null;
+            String tasksFile;
+            if (savedShard != null && savedShard.isSavedStateOf(wedding, shardDirectory)) {
+                tasksFile = savedShard.tasksFile;
+            } else {
+                tasksFile = writeTasks(wedding, shardDirectory.resolve("tasks-" + newGeneration + "-" + i + ".json"),
+                        isForced);
+                isChanged = true;
+            }
+            headers.add(new JsonAdaptedWeddingHeader(wedding, tasksFile));
+            shards.put(wedding, new SavedShard(tasksFile, wedding));
+        }
+
+        int nextWeddingId = addressBook.getNextWeddingId();
+        if (!isChanged && headers.equals(savedHeaders) && nextWeddingId == savedNextWeddingId) {
+            // Tasks loaded since the last save were found unchanged, and need not be read again next time.
+            savedShards = shards;
+            return;
+        }
+
+        JsonShardManifest manifest = new JsonShardManifest(MANIFEST_VERSION, newGeneration, personsFile, headers,
+                nextWeddingId);
+        String manifestJson = isPrettyPrinted ? JsonUtil.toJsonString(manifest) : JsonUtil.toJsonLine(manifest);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> out.write(manifestJson.getBytes(UTF_8)), isForced);
+        deleteUnnamedShards(shardDirectory, manifest);
+
+        if (isSavedHere) {
+            generation = newGeneration;
+            savedPersonsFile = personsFile;
+            savedPersons = new ArrayList<>(persons);
+            savedHeaders = headers;
+            savedShards = shards;
+            savedNextWeddingId = nextWeddingId;
+        }
+    }
+
+    /**
+     * Writes the tasks of {@code wedding} to the file at {@code tasksPath}, and returns the name of the file.
+     * Returns null without writing anything if the wedding has no tasks.
+     */
+    private static String writeTasks(Wedding wedding, Path tasksPath, boolean isForced) throws IOException {
+        List<WeddingTask> tasks = wedding.getTasks();
+        if (tasks.isEmpty()) {
+            return null;
+        }
+        List<JsonAdaptedTask> jsonAdaptedTasks = tasks.stream().map(JsonAdaptedTask::new).collect(Collectors.toList());
+        byte[] tasksJson = JsonUtil.toJsonString(jsonAdaptedTasks).getBytes(UTF_8);
+        FileUtil.writeToFileAtomically(tasksPath, out -> out.write(tasksJson), isForced);
+        return tasksPath.getFileName().toString();
+    }
+
+    /**
+     * Removes the files in {@code shardDirectory} that are not named by {@code manifest}, which are left from earlier
+     * saves. Files that cannot be removed are left for the next save to remove.
+     */
+    private static void deleteUnnamedShards(Path shardDirectory, JsonShardManifest manifest) {
+        Set<String> namedFiles = new HashSet<>();
+        namedFiles.add(manifest.getPersonsFile());
+        for (JsonAdaptedWeddingHeader header : manifest.getWeddings()) {
+            namedFiles.add(header.getTasksFile());
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory)) {
+            for (Path file : files) {
+                if (!namedFiles.contains(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error removing old shards from " + shardDirectory + ": " + ioe);
+        }
+    }
+
+    /**
+     * Returns the generation of the manifest at {@code filePath}, or 0 if there is no readable manifest there.
+     */
+    private static long readGeneration(Path filePath) {
+        try {
+            if (!Files.exists(filePath) || !ShardedAddressBookReader.isManifestFile(filePath)) {
+                return 0;
+            }
+            return JsonUtil.fromJsonString(FileUtil.readFromFile(filePath), JsonShardManifest.class).getGeneration();
+        } catch (IOException ioe) {
+            return 0;
+        }
+    }
+
+    private boolean isSavedStateOf(List<Person> persons) {
+        if (savedPersons.size() != persons.size()) {
+            return false;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            // Persons are immutable, so an unchanged person is the same object as the one saved.
+            if (savedPersons.get(i) != persons.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rememberSaved(JsonShardManifest manifest, ReadOnlyAddressBook addressBook) {
+        generation = manifest.getGeneration();
+        savedPersonsFile = manifest.getPersonsFile();
+        savedPersons = new ArrayList<>(addressBook.getPersonList());
+        savedHeaders = new ArrayList<>(manifest.getWeddings());
+        savedNextWeddingId = addressBook.getNextWeddingId();
+        savedShards = new HashMap<>();
+        List<Wedding> weddings = addressBook.getWeddingList();
+        for (int i = 0; i < weddings.size(); i++) {
+            savedShards.put(weddings.get(i), new SavedShard(savedHeaders.get(i).getTasksFile(), weddings.get(i)));
+        }
+    }
+
+    private void forgetSaved() {
+        savedPersonsFile = null;
+        savedPersons = null;
+        savedHeaders = null;
+        savedShards = null;
+    }
+
+    /**
+     * The file the tasks of a wedding were saved in, with a copy of the tasks saved. Tasks that were still left in
+     * their file when they were saved are not copied, so as not to load them.
+     * Saved shards are looked up by the details of their wedding, as the address book saved may be a copy.
+     */
+    private static class SavedShard {
+        private final String tasksFile;
+        private final List<WeddingTask> tasks;
+
+        SavedShard(String tasksFile, Wedding wedding) {
+            this.tasksFile = tasksFile;
+            if (!wedding.hasLoadedTasks()) {
+                tasks = null;
+                return;
+            }
+            tasks = new ArrayList<>();
+            for (WeddingTask task : wedding.getTasks()) {
+                WeddingTask copy = new WeddingTask(task.getDescription());
+                if (task.isDone()) {
+                    copy.markAsDone();
+                }
+                tasks.add(copy);
+            }
+        }
+
+        /**
+         * Returns true if the tasks of {@code current} are the tasks in the file of this shard.
+         */
+        boolean isSavedStateOf(Wedding current, Path shardDirectory) {
+            if (!current.hasLoadedTasks()) {
+                // Tasks left in their file are unchanged since they were read from it.
+                return true;
+            }
+            List<WeddingTask> savedTasks = tasks;
+            if (savedTasks == null) {
+                try {
+                    savedTasks = tasksFile == null ? Collections.emptyList()
+                            : ShardedAddressBookReader.readTasks(shardDirectory.resolve(tasksFile));
+                } catch (IOException | IllegalValueException e) {
+                    return false;
+                }
+            }
+            return savedTasks.equals(current.getTasks());
+        }
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Address books are written before saveAddressBook returns, so there is nothing to wait for.
+    }
+
+    @Override
+    public void setWriteFailureListener(Consumer<IOException> listener) {
+        // Address books are written before saveAddressBook returns, which throws any failure itself.
+    }
+
+}
@@ -0,0 +1,210 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that writes address books in the background, so that saving does not hold up
+ * the caller.
+ * <p>
+ * Each save takes a snapshot of the address book and hands it to a single writer thread. Saves made while a write is
+ * in progress are coalesced, so that only the latest snapshot is written once the writer is free. A failed write is
+ * reported to the write failure listener as soon as it fails, or else by the next save or flush. The snapshot that
+ * failed is kept to be written again, and a flush also reports a failure that no later write has made up for.
+ */
+public class WriteBehindAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by this
+    private ReadOnlyAddressBook pendingAddressBook;
+    private boolean isWriteScheduled;
+    private IOException writeFailure;
+    private Consumer<IOException> writeFailureListener;
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that writes through {@code addressBookStorage}.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return addressBookStorage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return addressBookStorage.readAddressBook(filePath);
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be written in the background.
+     *
+     * @throws IOException if an earlier write failed and there is no write failure listener to have reported it.
+     *     The snapshot is scheduled nonetheless.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        IOException earlierFailure;
+        synchronized (this) {
+            pendingAddressBook = snapshot;
+            earlierFailure = writeFailureListener == null ? takeWriteFailure() : null;
+            scheduleWrite();
+        }
+        if (earlierFailure != null) {
+            throw earlierFailure;
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} once the pending writes are done, and waits for it.
+     * Only saves to the file path of this storage are written in the background.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        waitForWriter(() -> {
+            addressBookStorage.saveAddressBook(snapshot, filePath);
+            return null;
+        });
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        synchronized (this) {
+            if (pendingAddressBook != null) {
+                // Retries the snapshot of a failed write
+                scheduleWrite();
+            }
+        }
+        waitForWriter(() -> null);
+
+        IOException failure;
+        synchronized (this) {
+            failure = takeWriteFailure();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        addressBookStorage.flushAddressBook();
+    }
+
+    @Override
+    public synchronized void setWriteFailureListener(Consumer<IOException> listener) {
+        writeFailureListener = listener;
+    }
+
+    private synchronized void scheduleWrite() {
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.execute(this::writePendingAddressBook);
+        }
+    }
+
+    private synchronized IOException takeWriteFailure() {
+        IOException failure = writeFailure;
+        writeFailure = null;
+        return failure;
+    }
+
+    private void writePendingAddressBook() {
+        ReadOnlyAddressBook addressBook;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            pendingAddressBook = null;
+            isWriteScheduled = false;
+        }
+
+        try {
+            addressBookStorage.saveAddressBook(addressBook);
+            synchronized (this) {
+                if (writeFailureListener != null) {
+                    // The listener was told of the failure, and the data it left unwritten is written now
+                    writeFailure = null;
+                }
+            }
+        } catch (IOException ioe) {
+            handleWriteFailure(addressBook, ioe);
+        } catch (RuntimeException re) {
+            // Nothing else would see an unchecked failure on the writer thread, and the snapshot would be lost
+            handleWriteFailure(addressBook, new IOException("Failed to write the data file", re));
+        }
+    }
+
+    /**
+     * Keeps {@code addressBook}, which failed to be written, to be written again unless a later save replaced it,
+     * and reports {@code failure} to the write failure listener or else keeps it for the next save or flush.
+     */
+    private void handleWriteFailure(ReadOnlyAddressBook addressBook, IOException failure) {
+        logger.warning("Failed to write data file " + getAddressBookFilePath() + ": " + failure);
+        Consumer<IOException> listener;
+        synchronized (this) {
+            writeFailure = failure;
+            if (pendingAddressBook == null) {
+                pendingAddressBook = addressBook;
+            }
+            listener = writeFailureListener;
+        }
+        if (listener != null) {
+            listener.accept(failure);
+        }
+    }
+
+    /**
+     * Runs {@code write} on the writer thread after the writes scheduled before it, and waits for it to finish.
+     */
+    private void waitForWriter(Callable<Void> write) throws IOException {
+        try {
+            writer.submit(write).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the data file to be written");
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof IOException) {
+                throw (IOException) ee.getCause();
+            }
+            throw new IOException(ee.getCause());
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -137,6 +138,12 @@ public class MainWindow extends UiPart<Stage> {
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
+        // The data is saved in the background, so a failure to save it is shown when it happens
+        logic.setSaveFailureListener(message -> Platform.runLater(() -> {
+            logger.warning("Showing a failure to save the data: " + message);
+            resultDisplay.setFeedbackToUser(message);
+        }));
+
         // Logo
         Image logo = new Image(MainWindow.class.getResourceAsStream("/images/ew.png"));
         logoImageView.setImage(logo);
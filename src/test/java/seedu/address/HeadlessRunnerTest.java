@@ -0,0 +1,97 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Model model;
+    private JsonAddressBookStorage addressBookStorage;
+    private HeadlessRunner runner;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        LogicManager logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        runner = new HeadlessRunner(logic, new PrintStream(out, true), new PrintStream(err, true));
+    }
+
+    @Test
+    public void runCommands_validCommands_printsFeedback() throws Exception {
+        assertTrue(runner.runCommands(reader("# Report\n\nlist\n" + ExitCommand.COMMAND_WORD + "\nlist\n")));
+
+        String expectedOutput = ListCommand.MESSAGE_SUCCESS + System.lineSeparator()
+                + ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator();
+        assertEquals(expectedOutput, out.toString());
+        assertEquals("", err.toString());
+    }
+
+    @Test
+    public void runCommands_invalidCommands_printsErrorsAndContinues() throws Exception {
+        assertFalse(runner.runCommands(reader("unknownCommand\ndelete 99\ndelete 1\n")));
+
+        String expectedErrors = String.format(BatchCommand.MESSAGE_LINE_RESULT, 1, MESSAGE_UNKNOWN_COMMAND)
+                + System.lineSeparator()
+                + String.format(BatchCommand.MESSAGE_LINE_RESULT, 2, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX)
+                + System.lineSeparator();
+        assertEquals(expectedErrors, err.toString());
+        assertEquals(getTypicalAddressBook().getPersonList().size() - 1, model.getAddressBook().getPersonList().size());
+        assertEquals(model.getAddressBook(), addressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void runBatch_commandFails_nothingApplied() throws Exception {
+        assertFalse(runner.runBatch(reader("delete 1\ndelete 99\n")));
+
+        assertEquals(String.format(BatchCommand.MESSAGE_LINE_FAILED, 2, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX)
+                + System.lineSeparator(), err.toString());
+        assertEquals(getTypicalAddressBook(), new AddressBook(model.getAddressBook()));
+        assertFalse(addressBookStorage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void runBatch_validCommands_success() throws Exception {
+        assertTrue(runner.runBatch(reader("delete 1\ndelete 1\n")));
+
+        assertTrue(out.toString().startsWith(String.format(BatchCommand.MESSAGE_SUCCESS, 2)));
+        assertEquals(getTypicalAddressBook().getPersonList().size() - 2, model.getAddressBook().getPersonList().size());
+    }
+
+    private static BufferedReader reader(String text) {
+        return new BufferedReader(new StringReader(text));
+    }
+
+}
@@ -0,0 +1,256 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingDate;
+import seedu.address.model.wedding.WeddingId;
+import seedu.address.model.wedding.WeddingLocation;
+import seedu.address.model.wedding.WeddingName;
+import seedu.address.model.wedding.WeddingTask;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private ExecutorService modelExecutor;
+    private ModelManager model;
+    private ApiServer apiServer;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Wedding wedding = new Wedding(new WeddingId("W1"), new WeddingName("Alice and Bob"),
+                new WeddingDate("15-Jun-2030"), new WeddingLocation("Central Park"));
+        wedding.addTask(new WeddingTask("Book the venue"));
+        addressBook.addWedding(wedding);
+        Person taggedAlice = new PersonBuilder(ALICE).withTags("W1").build();
+        addressBook.setPerson(ALICE, taggedAlice);
+
+        model = new ModelManager(addressBook, new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        modelExecutor = Executors.newSingleThreadExecutor();
+        apiServer = new ApiServer(new LogicManager(model, storage), modelExecutor, 0);
+        apiServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        apiServer.stop();
+        modelExecutor.shutdownNow();
+    }
+
+    @Test
+    public void getPersons_allPersons_success() throws Exception {
+        HttpResponse<String> response = get("/api/persons");
+        assertEquals(200, response.statusCode());
+        List<?> persons = JsonUtil.fromJsonString(response.body(), List.class);
+        assertEquals(getTypicalAddressBook().getPersonList().size(), persons.size());
+        assertEquals(ALICE.getName().fullName, ((Map<?, ?>) persons.get(0)).get("name"));
+    }
+
+    @Test
+    public void getPersons_byWedding_success() throws Exception {
+        HttpResponse<String> response = get("/api/persons?wedding=W1");
+        assertEquals(200, response.statusCode());
+        List<?> persons = JsonUtil.fromJsonString(response.body(), List.class);
+        assertEquals(1, persons.size());
+        assertEquals(List.of("W1"), ((Map<?, ?>) persons.get(0)).get("weddings"));
+
+        assertEquals(400, get("/api/persons?wedding=abc").statusCode());
+    }
+
+    @Test
+    public void getWedding_withTasks_success() throws Exception {
+        HttpResponse<String> response = get("/api/weddings/W1");
+        assertEquals(200, response.statusCode());
+        Map<?, ?> wedding = JsonUtil.fromJsonString(response.body(), Map.class);
+        assertEquals("Alice and Bob", wedding.get("name"));
+        assertEquals(List.of(Map.of("description", "Book the venue", "isDone", false)), wedding.get("tasks"));
+
+        assertEquals(404, get("/api/weddings/W99").statusCode());
+        assertEquals(404, get("/api/unknown").statusCode());
+    }
+
+    @Test
+    public void postCommand_validCommand_seenByLaterReads() throws Exception {
+        HttpResponse<String> response = post("/api/commands", "{\"command\": \"delete 1\"}");
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("feedback"));
+
+        List<?> persons = JsonUtil.fromJsonString(get("/api/persons").body(), List.class);
+        assertEquals(getTypicalAddressBook().getPersonList().size() - 1, persons.size());
+    }
+
+    @Test
+    public void postCommand_invalidCommand_badRequest() throws Exception {
+        HttpResponse<String> response = post("/api/commands", "{\"command\": \"delete 99\"}");
+        assertEquals(400, response.statusCode());
+        assertEquals(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX,
+                JsonUtil.fromJsonString(response.body(), Map.class).get("error"));
+
+        assertEquals(400, post("/api/commands", "not json").statusCode());
+        assertEquals(405, get("/api/commands").statusCode());
+    }
+
+    @Test
+    public void postCommand_needsConfirmation_badRequest() throws Exception {
+        HttpResponse<String> response = post("/api/commands", "{\"command\": \"clear\"}");
+        assertEquals(400, response.statusCode());
+        assertTrue(JsonUtil.fromJsonString(response.body(), Map.class).get("error").toString()
+                .endsWith(LogicManager.MESSAGE_CONFIRMATION_UNAVAILABLE));
+        assertEquals(400, post("/api/commands", "{\"command\": \"y\"}").statusCode());
+        assertEquals(getTypicalAddressBook().getPersonList().size(), model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void postCommand_notSentAsJson_unsupportedMediaType() throws Exception {
+        HttpRequest withoutContentType = HttpRequest.newBuilder(uri("/api/commands"))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"command\": \"delete 1\"}")).build();
+        HttpResponse<String> response = client.send(withoutContentType, HttpResponse.BodyHandlers.ofString());
+        assertEquals(415, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_UNSUPPORTED_CONTENT_TYPE,
+                JsonUtil.fromJsonString(response.body(), Map.class).get("error"));
+
+        HttpRequest asPlainText = HttpRequest.newBuilder(uri("/api/commands"))
+                .header("Content-Type", "text/plain")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"command\": \"delete 1\"}")).build();
+        assertEquals(415, client.send(asPlainText, HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(getTypicalAddressBook().getPersonList().size(), model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void request_withOrigin_forbidden() throws Exception {
+        HttpRequest fromPage = HttpRequest.newBuilder(uri("/api/commands"))
+                .header("Content-Type", "application/json")
+                .header("Origin", "http://example.com")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"command\": \"delete 1\"}")).build();
+        HttpResponse<String> response = client.send(fromPage, HttpResponse.BodyHandlers.ofString());
+        assertEquals(403, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_FORBIDDEN, JsonUtil.fromJsonString(response.body(), Map.class).get("error"));
+        assertEquals(getTypicalAddressBook().getPersonList().size(), model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void request_otherHost_forbidden() throws Exception {
+        int port = apiServer.getPort();
+        assertEquals(403, getStatusWithHost("example.com:" + port));
+        assertEquals(403, getStatusWithHost("localhost"));
+        assertEquals(403, getStatusWithHost("localhost:" + (port + 1)));
+
+        assertEquals(200, getStatusWithHost("localhost:" + port));
+        assertEquals(200, getStatusWithHost("127.0.0.1:" + port));
+    }
+
+    @Test
+    public void concurrentReadsAndWrites_readsNeverGoBackwards() throws Exception {
+        int readerCount = 8;
+        int readsPerReader = 100;
+        int writeCount = 50;
+        int initialSize = model.getAddressBook().getPersonList().size();
+        ExecutorService clients = Executors.newFixedThreadPool(readerCount + 1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            results.add(clients.submit(() -> {
+                for (int i = 0; i < writeCount; i++) {
+                    String command = "add n/Vendor " + i + " p/" + (80_000_000 + i) + " e/vendor" + i
+                            + "@example.com a/Orchard Road r/florist";
+                    assertEquals(200, post("/api/commands", "{\"command\": \"" + command + "\"}").statusCode());
+                }
+                return null;
+            }));
+            for (int reader = 0; reader < readerCount; reader++) {
+                results.add(clients.submit(() -> {
+                    int lastSize = initialSize;
+                    for (int i = 0; i < readsPerReader; i++) {
+                        int size = JsonUtil.fromJsonString(get("/api/persons").body(), List.class).size();
+                        assertTrue(size >= lastSize && size <= initialSize + writeCount);
+                        lastSize = size;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        List<?> persons = JsonUtil.fromJsonString(get("/api/persons").body(), List.class);
+        assertEquals(initialSize + writeCount, persons.size());
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Returns the status of a request for the persons with the given Host header, which {@code HttpClient} does not
+     * let callers set.
+     */
+    private int getStatusWithHost(String host) throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), apiServer.getPort())) {
+            String request = "GET /api/persons HTTP/1.1\r\nHost: " + host + "\r\nConnection: close\r\n\r\n";
+            socket.getOutputStream().write(request.getBytes(StandardCharsets.US_ASCII));
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            // The status line reads e.g. "HTTP/1.1 403 Forbidden"
+            return Integer.parseInt(reader.readLine().split(" ")[1]);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + apiServer.getPort() + path);
+    }
+
+}
@@ -12,7 +12,11 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", isDataFilePrettyPrinted=" + config.isDataFilePrettyPrinted()
+                + ", isDataFileCompressed=" + config.isDataFileCompressed()
+                + ", dataFileFsyncPolicy=" + config.getDataFileFsyncPolicy()
+                + ", apiServerPort=" + config.getApiServerPort() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -0,0 +1,31 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+public class ByteBufferInputStreamTest {
+
+    @Test
+    public void read_remainingBytes_readInOrder() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] {1, 2, (byte) 0xFF, 4, 5});
+        buffer.position(1);
+        ByteBufferInputStream in = new ByteBufferInputStream(buffer);
+
+        assertEquals(4, in.available());
+        assertEquals(2, in.read());
+        assertEquals(0xFF, in.read());
+
+        byte[] bytes = new byte[4];
+        assertEquals(2, in.read(bytes, 1, 3));
+        assertArrayEquals(new byte[] {0, 4, 5, 0}, bytes);
+
+        assertEquals(-1, in.read());
+        assertEquals(-1, in.read(bytes, 0, 4));
+        assertEquals(0, in.read(bytes, 0, 0));
+    }
+
+}
@@ -1,13 +1,26 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +33,63 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replaced() throws IOException {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content that is longer");
+
+        FileUtil.writeToFileAtomically(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)), true);
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(1, testFolder.toFile().list().length); // no temporary file is left behind
+    }
+
+    @Test
+    public void writeToFileAtomically_writeFails_fileUnchanged() throws IOException {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }, false));
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertEquals(1, testFolder.toFile().list().length);
+    }
+
+    @Test
+    public void appendToFile() throws IOException {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.appendToFile(file, "first\n".getBytes(StandardCharsets.UTF_8), false);
+        FileUtil.appendToFile(file, "second\n".getBytes(StandardCharsets.UTF_8), true);
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void readFromFileMapped_smallAndLargeFiles_contentsRead() throws IOException {
+        Path smallFile = testFolder.resolve("small.txt");
+        FileUtil.writeToFile(smallFile, "small");
+        assertEquals("small", StandardCharsets.UTF_8.decode(FileUtil.readFromFileMapped(smallFile)).toString());
+
+        Path largeFile = testFolder.resolve("large.txt");
+        String largeContent = "large file line\n".repeat(200_000);
+        FileUtil.writeToFile(largeFile, largeContent);
+        assertEquals(largeContent, StandardCharsets.UTF_8.decode(FileUtil.readFromFileMapped(largeFile)).toString());
+    }
+
+    @Test
+    public void gzipCompressed_contentCompressedAndStreamLeftOpen() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String content = "repeated line\n".repeat(1000);
+        FileUtil.gzipCompressed(compressedOut -> compressedOut.write(content.getBytes(StandardCharsets.UTF_8)))
+                .writeTo(out);
+        out.write('!'); // still open
+
+        byte[] written = out.toByteArray();
+        assertTrue(FileUtil.isGzipCompressed(ByteBuffer.wrap(written)));
+        assertFalse(FileUtil.isGzipCompressed(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8))));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(written, 0, written.length - 1))) {
+            assertEquals(content, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
 }
@@ -0,0 +1,27 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class FsyncPolicyTest {
+
+    @Test
+    public void shouldForce() {
+        assertTrue(FsyncPolicy.ALWAYS.shouldForce(0));
+
+        assertFalse(FsyncPolicy.BATCHED.shouldForce(FsyncPolicy.BATCH_INTERVAL_MILLIS - 1));
+        assertTrue(FsyncPolicy.BATCHED.shouldForce(FsyncPolicy.BATCH_INTERVAL_MILLIS));
+
+        assertFalse(FsyncPolicy.NEVER.shouldForce(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldForceReplacedFiles() {
+        assertTrue(FsyncPolicy.ALWAYS.shouldForceReplacedFiles());
+        assertTrue(FsyncPolicy.BATCHED.shouldForceReplacedFiles());
+        assertFalse(FsyncPolicy.NEVER.shouldForceReplacedFiles());
+    }
+
+}
@@ -1,10 +1,13 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +126,38 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsAnyWordIgnoreCase --------------------------------------
+
+    @Test
+    public void containsAnyWordIgnoreCase_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.containsAnyWordIgnoreCase(null, Set.of("abc")));
+        assertThrows(NullPointerException.class, () -> StringUtil.containsAnyWordIgnoreCase("abc", null));
+    }
+
+    @Test
+    public void containsAnyWordIgnoreCase_validInputs_correctResult() {
+        Set<String> foldedWords = StringUtil.foldWords(List.of(" bbB ", "ddd"));
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("  AAA bBb ccc", foldedWords));
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("DDD", foldedWords));
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("aaa bb ccc", foldedWords)); // not a full word match
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("", foldedWords));
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("aaa bbb", StringUtil.foldWords(List.of())));
+    }
+
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_wordsEqualIgnoringCase_sameKey() {
+        assertEquals("abc 12", StringUtil.foldCase("aBC 12"));
+        assertEquals(StringUtil.foldCase("Kelvin"), StringUtil.foldCase("\u212Aelvin")); // Kelvin sign
+        assertFalse(StringUtil.foldCase("abc").equals(StringUtil.foldCase("abd")));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,7 +1,9 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -14,7 +16,12 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,7 +30,10 @@ import org.junit.jupiter.api.io.TempDir;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ConfirmCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -36,6 +46,7 @@ import seedu.address.model.wedding.Wedding;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -87,6 +98,102 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_backgroundWriteFails_failureReportedToListener() throws Exception {
+        // Inject LogicManager with an AddressBookStorage that fails its writes in the background
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_AD_EXCEPTION;
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(
+                new WriteBehindAddressBookStorage(addressBookStorage), userPrefsStorage));
+        CompletableFuture<String> reportedFailure = new CompletableFuture<>();
+        logic.setSaveFailureListener(reportedFailure::complete);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ROLE_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        assertEquals(String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()),
+                reportedFailure.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void executeWithoutConfirmation_needsConfirmation_failsAndLeavesPendingCommand() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ROLE_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        assertTrue(logic.execute(ClearCommand.COMMAND_WORD).isRequiresConfirmation());
+
+        // A duplicate would wait for a confirmation, and the clear pending in the app cannot be confirmed
+        assertThrows(CommandException.class, () -> logic.executeWithoutConfirmation(addCommand));
+        assertThrows(CommandException.class, LogicManager.MESSAGE_CONFIRMATION_UNAVAILABLE, () ->
+                logic.executeWithoutConfirmation(ConfirmCommand.COMMAND_WORD));
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+
+        logic.executeWithoutConfirmation(ListCommand.COMMAND_WORD);
+        logic.execute(ConfirmCommand.COMMAND_WORD);
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_readOnlyCommand_addressBookNotSaved() throws Exception {
+        // Inject LogicManager with an AddressBookStorage that fails if it is asked to save
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void executeBatch_manyCommands_addressBookSavedOnce() throws Exception {
+        // Inject LogicManager with an AddressBookStorage that counts how often it saves
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        List<String> commandTexts = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            commandTexts.add(AddCommand.COMMAND_WORD + " n/Vendor " + i + " p/" + (80_000_000 + i)
+                    + " e/vendor" + i + "@example.com a/Orchard Road r/florist");
+        }
+        logic.executeBatch(commandTexts);
+
+        assertEquals(1000, model.getAddressBook().getPersonList().size());
+        assertEquals(1, saveCount[0]);
+        assertEquals(model.getAddressBook(), addressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void executeBatch_commandFails_nothingAppliedOrSaved() {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ROLE_DESC_AMY + ADDRESS_DESC_AMY;
+        String expectedMessage = String.format(BatchCommand.MESSAGE_LINE_FAILED, 2,
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+
+        assertThrows(CommandException.class, expectedMessage, () ->
+                logic.executeBatch(List.of(addCommand, "delete 9")));
+        assertEquals(new ModelManager(), model);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
@@ -45,6 +48,7 @@ public class AddTaskCommandTest {
         Wedding wedding = modelStub.internalWeddingList.get(0);
         assertEquals(2, wedding.getTasks().size());
         assertEquals(VALID_DESCRIPTION, wedding.getTasks().get(1).getDescription());
+        assertEquals(List.of(wedding), modelStub.modifiedWeddings);
     }
 
     @Test
@@ -96,6 +100,7 @@ public class AddTaskCommandTest {
      */
     private class ModelStubWithOneWedding extends ModelStub {
         private final ObservableList<Wedding> internalWeddingList = FXCollections.observableArrayList();
+        private final List<Wedding> modifiedWeddings = new ArrayList<>();
 
         ModelStubWithOneWedding(WeddingId weddingId, int initialTaskCount) throws ParseException {
             Wedding singleWedding = new Wedding(
@@ -117,5 +122,18 @@ public class AddTaskCommandTest {
         public ObservableList<Wedding> getFilteredWeddingList() {
             return internalWeddingList;
         }
+
+        @Override
+        public Wedding getWeddingById(WeddingId weddingId) {
+            return internalWeddingList.stream()
+                    .filter(wedding -> wedding.getWeddingId().equals(weddingId))
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        @Override
+        public void indicateWeddingModified(Wedding wedding) {
+            modifiedWeddings.add(wedding);
+        }
     }
 }
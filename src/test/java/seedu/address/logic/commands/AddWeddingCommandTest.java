@@ -15,6 +15,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.wedding.Wedding;
 import seedu.address.model.wedding.WeddingDate;
+import seedu.address.model.wedding.WeddingId;
 import seedu.address.model.wedding.WeddingLocation;
 import seedu.address.model.wedding.WeddingName;
 
@@ -24,65 +25,71 @@ import seedu.address.model.wedding.WeddingName;
  */
 public class AddWeddingCommandTest {
 
+    private static final WeddingName NAME = new WeddingName("John & Jane's Wedding");
+    private static final WeddingDate DATE;
+    private static final WeddingLocation LOCATION = new WeddingLocation("Grand Ballroom");
+
+    static {
+        try {
+            DATE = new WeddingDate("20-Feb-2026");
+        } catch (ParseException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Test
-    public void constructor_nullWedding_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new AddWeddingCommand(null));
+    public void constructor_nullField_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddWeddingCommand(null, DATE, LOCATION));
+        assertThrows(NullPointerException.class, () -> new AddWeddingCommand(NAME, null, LOCATION));
+        assertThrows(NullPointerException.class, () -> new AddWeddingCommand(NAME, DATE, null));
     }
 
     @Test
     public void execute_weddingAcceptedByModel_addSuccessful() throws Exception {
         ModelStubAcceptingWeddingAdded modelStub = new ModelStubAcceptingWeddingAdded();
-        // Create a valid wedding event.
-        Wedding validWedding = new Wedding(
-                new WeddingName("John & Jane's Wedding"),
-                new WeddingDate("20-Feb-2026"),
-                new WeddingLocation("Grand Ballroom")
-        );
+        Wedding expectedWedding = new Wedding(new WeddingId("W1"), NAME, DATE, LOCATION);
 
-        CommandResult commandResult = new AddWeddingCommand(validWedding).execute(modelStub);
+        CommandResult commandResult = new AddWeddingCommand(NAME, DATE, LOCATION).execute(modelStub);
 
-        assertEquals(String.format(AddWeddingCommand.MESSAGE_SUCCESS, validWedding),
+        assertEquals(String.format(AddWeddingCommand.MESSAGE_SUCCESS, expectedWedding),
                 commandResult.getFeedbackToUser());
-        assertEquals(Arrays.asList(validWedding), modelStub.weddingsAdded);
+        assertEquals(Arrays.asList(expectedWedding), modelStub.weddingsAdded);
+    }
+
+    @Test
+    public void execute_twoWeddings_differentIds() throws Exception {
+        ModelStubAcceptingWeddingAdded modelStub = new ModelStubAcceptingWeddingAdded();
+        new AddWeddingCommand(NAME, DATE, LOCATION).execute(modelStub);
+        new AddWeddingCommand(new WeddingName("Alice & Bob's Wedding"), DATE, LOCATION).execute(modelStub);
+
+        assertEquals(new WeddingId("W1"), modelStub.weddingsAdded.get(0).getWeddingId());
+        assertEquals(new WeddingId("W2"), modelStub.weddingsAdded.get(1).getWeddingId());
     }
 
     @Test
-    public void execute_duplicateWedding_throwsCommandException() throws ParseException {
-        // Create a wedding event.
-        Wedding validWedding = new Wedding(
-                new WeddingName("John & Jane's Wedding"),
-                new WeddingDate("20-Feb-2026"),
-                new WeddingLocation("Grand Ballroom")
-        );
-        AddWeddingCommand addWeddingCommand = new AddWeddingCommand(validWedding);
+    public void execute_duplicateWedding_throwsCommandException() {
+        Wedding validWedding = new Wedding(new WeddingId("W1"), NAME, DATE, LOCATION);
+        AddWeddingCommand addWeddingCommand = new AddWeddingCommand(NAME, DATE, LOCATION);
         ModelStub modelStub = new ModelStubWithWedding(validWedding);
 
-        // Expect a CommandException because modelStub already has `validWedding`
+        // Expect a CommandException because modelStub already has `validWedding`, without an ID being allocated
         assertThrows(CommandException.class,
                 AddWeddingCommand.MESSAGE_DUPLICATE_WEDDING, () -> addWeddingCommand.execute(modelStub));
     }
 
     @Test
     public void equals() throws ParseException {
-        Wedding aliceWedding = new Wedding(
-                new WeddingName("Alice & Bob's Wedding"),
-                new WeddingDate("21-Feb-2026"),
-                new WeddingLocation("Central Park")
-        );
-        Wedding bobWedding = new Wedding(
-                new WeddingName("Bob & Charlie's Wedding"),
-                new WeddingDate("22-Feb-2026"),
-                new WeddingLocation("Garden")
-        );
-
-        AddWeddingCommand addAliceWeddingCommand = new AddWeddingCommand(aliceWedding);
-        AddWeddingCommand addBobWeddingCommand = new AddWeddingCommand(bobWedding);
+        AddWeddingCommand addAliceWeddingCommand = new AddWeddingCommand(new WeddingName("Alice & Bob's Wedding"),
+                new WeddingDate("21-Feb-2026"), new WeddingLocation("Central Park"));
+        AddWeddingCommand addBobWeddingCommand = new AddWeddingCommand(new WeddingName("Bob & Charlie's Wedding"),
+                new WeddingDate("22-Feb-2026"), new WeddingLocation("Garden"));
 
         // same object -> returns true
         assertTrue(addAliceWeddingCommand.equals(addAliceWeddingCommand));
 
         // same values -> returns true
-        AddWeddingCommand addAliceWeddingCommandCopy = new AddWeddingCommand(aliceWedding);
+        AddWeddingCommand addAliceWeddingCommandCopy = new AddWeddingCommand(new WeddingName("Alice & Bob's Wedding"),
+                new WeddingDate("21-Feb-2026"), new WeddingLocation("Central Park"));
         assertTrue(addAliceWeddingCommand.equals(addAliceWeddingCommandCopy));
 
         // different types -> returns false
@@ -109,10 +116,10 @@ public class AddWeddingCommandTest {
         }
 
         @Override
-        public boolean hasWedding(Wedding wedding) {
-            requireNonNull(wedding);
-            // Use isSameWedding if your Wedding class has such a method
-            return this.wedding.isSameWedding(wedding);
+        public boolean hasWedding(WeddingName weddingName, WeddingDate weddingDate,
+                                  WeddingLocation weddingLocation) {
+            return wedding.getWeddingName().equals(weddingName) && wedding.getWeddingDate().equals(weddingDate)
+                    && wedding.getWeddingLocation().equals(weddingLocation);
         }
     }
 
@@ -121,11 +128,19 @@ public class AddWeddingCommandTest {
      */
     private class ModelStubAcceptingWeddingAdded extends ModelStub {
         final ArrayList<Wedding> weddingsAdded = new ArrayList<>();
+        private int nextWeddingId = 1;
 
         @Override
-        public boolean hasWedding(Wedding wedding) {
-            requireNonNull(wedding);
-            return weddingsAdded.stream().anyMatch(wedding::isSameWedding);
+        public WeddingId allocateWeddingId() {
+            return new WeddingId(nextWeddingId++);
+        }
+
+        @Override
+        public boolean hasWedding(WeddingName weddingName, WeddingDate weddingDate,
+                                  WeddingLocation weddingLocation) {
+            return weddingsAdded.stream().anyMatch(wedding -> wedding.getWeddingName().equals(weddingName)
+                    && wedding.getWeddingDate().equals(weddingDate)
+                    && wedding.getWeddingLocation().equals(weddingLocation));
         }
 
         @Override
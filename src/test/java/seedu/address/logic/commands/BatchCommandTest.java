@@ -0,0 +1,139 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.wedding.WeddingDate;
+import seedu.address.model.wedding.WeddingLocation;
+import seedu.address.model.wedding.WeddingName;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code BatchCommand}.
+ */
+public class BatchCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        ConfirmationManager.getInstance().clearPendingCommand();
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_nullCommands_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BatchCommand(List.of(), null));
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_success() throws Exception {
+        BatchCommand batchCommand = new BatchCommand(List.of(1, 3),
+                List.of(new AddCommand(AMY), new AddCommand(BOB)));
+
+        CommandResult result = batchCommand.execute(model);
+
+        String expectedMessage = String.format(BatchCommand.MESSAGE_SUCCESS, 2)
+                + "\n" + String.format(BatchCommand.MESSAGE_LINE_RESULT, 1,
+                        String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY)))
+                + "\n" + String.format(BatchCommand.MESSAGE_LINE_RESULT, 3,
+                        String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(BOB)));
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertTrue(model.hasPerson(AMY));
+        assertTrue(model.hasPerson(BOB));
+    }
+
+    @Test
+    public void execute_commandFails_nothingApplied() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 2);
+        BatchCommand batchCommand = new BatchCommand(List.of(1, 2),
+                List.of(new AddCommand(AMY), new DeleteCommand(outOfBoundIndex)));
+        AddressBook expectedAddressBook = new AddressBook(model.getAddressBook());
+
+        assertThrows(CommandException.class,
+                String.format(BatchCommand.MESSAGE_LINE_FAILED, 2, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX), ()
+                        -> batchCommand.execute(model));
+        assertEquals(expectedAddressBook, model.getAddressBook());
+        assertFalse(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void execute_weddingAddedThenCommandFails_nextWeddingIdRestored() throws Exception {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 2);
+        BatchCommand batchCommand = new BatchCommand(List.of(1, 2), List.of(
+                new AddWeddingCommand(new WeddingName("Alice and Bob"), new WeddingDate("15-Jun-2030"),
+                        new WeddingLocation("Central Park")),
+                new DeleteCommand(outOfBoundIndex)));
+        int nextWeddingId = model.getAddressBook().getNextWeddingId();
+
+        assertThrows(CommandException.class, () -> batchCommand.execute(model));
+        assertTrue(model.getAddressBook().getWeddingList().isEmpty());
+        assertEquals(nextWeddingId, model.getAddressBook().getNextWeddingId());
+    }
+
+    @Test
+    public void execute_confirmationNotGiven_nothingApplied() {
+        BatchCommand batchCommand = new BatchCommand(List.of(1, 2),
+                List.of(new AddCommand(AMY), new ClearCommand()));
+        AddressBook expectedAddressBook = new AddressBook(model.getAddressBook());
+
+        assertThrows(CommandException.class, String.format(BatchCommand.MESSAGE_LINE_NOT_CONFIRMED, 2,
+                ClearCommand.MESSAGE_CONFIRMATION_REQUIRED), () -> batchCommand.execute(model));
+        assertEquals(expectedAddressBook, model.getAddressBook());
+        assertNull(ConfirmationManager.getInstance().getPendingCommand());
+    }
+
+    @Test
+    public void execute_confirmationGiven_success() throws Exception {
+        BatchCommand batchCommand = new BatchCommand(List.of(1, 2, 3),
+                List.of(new ClearCommand(), new ConfirmCommand(), new AddCommand(AMY)));
+
+        batchCommand.execute(model);
+
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertTrue(model.hasPerson(AMY));
+        assertNull(ConfirmationManager.getInstance().getPendingCommand());
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand batchCommand = new BatchCommand(List.of(1), List.of(new AddCommand(AMY)));
+
+        // same values -> returns true
+        assertTrue(batchCommand.equals(new BatchCommand(List.of(1), List.of(new AddCommand(AMY)))));
+
+        // same object -> returns true
+        assertTrue(batchCommand.equals(batchCommand));
+
+        // null -> returns false
+        assertFalse(batchCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(batchCommand.equals(new ClearCommand()));
+
+        // different line numbers -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(List.of(2), List.of(new AddCommand(AMY)))));
+
+        // different commands -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(List.of(1), List.of(new AddCommand(BOB)))));
+    }
+
+}
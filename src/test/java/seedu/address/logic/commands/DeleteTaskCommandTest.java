@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
@@ -45,6 +48,7 @@ public class DeleteTaskCommandTest {
         Wedding wedding = modelStub.getFilteredWeddingList().get(0);
         assertEquals(1, wedding.getTasks().size());
         assertEquals("Task 1", wedding.getTasks().get(0).getDescription());
+        assertEquals(List.of(wedding), modelStub.modifiedWeddings);
     }
 
     @Test
@@ -103,6 +107,7 @@ public class DeleteTaskCommandTest {
      */
     private class ModelStubWithOneWedding extends ModelStub {
         private final ObservableList<Wedding> internalWeddingList = FXCollections.observableArrayList();
+        private final List<Wedding> modifiedWeddings = new ArrayList<>();
 
         ModelStubWithOneWedding(WeddingId weddingId) throws ParseException {
             Wedding singleWedding = new Wedding(
@@ -122,5 +127,18 @@ public class DeleteTaskCommandTest {
         public ObservableList<Wedding> getFilteredWeddingList() {
             return internalWeddingList;
         }
+
+        @Override
+        public Wedding getWeddingById(WeddingId weddingId) {
+            return internalWeddingList.stream()
+                    .filter(wedding -> wedding.getWeddingId().equals(weddingId))
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        @Override
+        public void indicateWeddingModified(Wedding wedding) {
+            modifiedWeddings.add(wedding);
+        }
     }
 }
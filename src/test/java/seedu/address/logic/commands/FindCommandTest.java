@@ -24,6 +24,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.RoleContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for FindCommand.
@@ -55,6 +56,9 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different mode -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstKeywords, true)));
     }
 
     @Test
@@ -83,11 +87,42 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_partialMatch_personsListedByRelevance() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        // exact word for Carl, prefix of a word for Elle, and one edit away from a word for Fiona
+        FindCommand command = new FindCommand(prepareKeywords("kurz ell"), true);
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_partialMatchSubstringOfRole_personFound() {
+        FindCommand command = new FindCommand(prepareKeywords("TOGRAPH"), true);
+        command.execute(model);
+        assertEquals(Collections.singletonList(CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personEditedWhileListed_stillListedIfMatching() {
+        Person renamedCarl = new PersonBuilder(CARL).withPhone("91234567").build();
+        Person renamedElle = new PersonBuilder(ELLE).withName("Elle Tan").build();
+
+        new FindCommand(prepareKeywords("Kurz Meyer")).execute(model);
+        model.setPerson(CARL, renamedCarl);
+        model.setPerson(ELLE, renamedElle);
+        assertEquals(Collections.singletonList(renamedCarl), model.getFilteredPersonList());
+
+        new FindCommand(prepareKeywords("kurz tan"), true).execute(model);
+        model.setPerson(renamedCarl, CARL);
+        assertTrue(model.getFilteredPersonList().containsAll(Arrays.asList(CARL, renamedElle)));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = Arrays.asList("keyword");
         FindCommand findCommand = new FindCommand(keywords);
-        String expected = FindCommand.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{keywords=" + keywords + ", isPartialMatch=false}";
         assertEquals(expected, findCommand.toString());
     }
 
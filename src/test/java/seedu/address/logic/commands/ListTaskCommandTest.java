@@ -108,5 +108,13 @@ public class ListTaskCommandTest {
         public ObservableList<Wedding> getFilteredWeddingList() {
             return internalWeddingList;
         }
+
+        @Override
+        public Wedding getWeddingById(WeddingId weddingId) {
+            return internalWeddingList.stream()
+                    .filter(wedding -> wedding.getWeddingId().equals(weddingId))
+                    .findFirst()
+                    .orElse(null);
+        }
     }
 }
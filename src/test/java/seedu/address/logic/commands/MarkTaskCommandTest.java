@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
@@ -44,6 +47,7 @@ public class MarkTaskCommandTest {
         Wedding wedding = modelStub.internalWeddingList.get(0);
         WeddingTask task = wedding.getTasks().get(1);
         assertTrue(task.isDone());
+        assertEquals(List.of(wedding), modelStub.modifiedWeddings);
     }
 
     @Test
@@ -95,6 +99,7 @@ public class MarkTaskCommandTest {
 
     private class ModelStubWithOneWedding extends ModelStub {
         private final ObservableList<Wedding> internalWeddingList = FXCollections.observableArrayList();
+        private final List<Wedding> modifiedWeddings = new ArrayList<>();
 
         ModelStubWithOneWedding(WeddingId weddingId, int taskCount) throws ParseException {
             Wedding singleWedding = new Wedding(
@@ -114,5 +119,18 @@ public class MarkTaskCommandTest {
         public ObservableList<Wedding> getFilteredWeddingList() {
             return internalWeddingList;
         }
+
+        @Override
+        public Wedding getWeddingById(WeddingId weddingId) {
+            return internalWeddingList.stream()
+                    .filter(wedding -> wedding.getWeddingId().equals(weddingId))
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        @Override
+        public void indicateWeddingModified(Wedding wedding) {
+            modifiedWeddings.add(wedding);
+        }
     }
 }
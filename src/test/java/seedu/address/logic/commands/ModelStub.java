@@ -1,6 +1,10 @@
 package seedu.address.logic.commands;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -11,7 +15,10 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingDate;
 import seedu.address.model.wedding.WeddingId;
+import seedu.address.model.wedding.WeddingLocation;
+import seedu.address.model.wedding.WeddingName;
 
 /**
  * A default Model stub that has all of the methods failing.
@@ -68,11 +75,31 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadWriteLock getAddressBookLock() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Map<Person, Integer> searchPersons(List<String> terms) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void deletePerson(Person target) {
         throw new AssertionError("This method should not be called.");
@@ -93,21 +120,41 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasWedding(Wedding wedding) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public boolean hasWedding(WeddingName weddingName, WeddingDate weddingDate, WeddingLocation weddingLocation) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void addWedding(Wedding wedding) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public WeddingId allocateWeddingId() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setWedding(Wedding target, Wedding editedWedding) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void indicateWeddingModified(Wedding wedding) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public Wedding getWeddingById(WeddingId weddingId) {
         throw new AssertionError("This method should not be called.");
@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
@@ -46,6 +49,7 @@ public class UnmarkTaskCommandTest {
         Wedding wedding = modelStub.internalWeddingList.get(0);
         WeddingTask task = wedding.getTasks().get(1);
         assertFalse(task.isDone());
+        assertEquals(List.of(wedding), modelStub.modifiedWeddings);
     }
 
     @Test
@@ -97,6 +101,7 @@ public class UnmarkTaskCommandTest {
 
     private class ModelStubWithOneWedding extends ModelStub {
         private final ObservableList<Wedding> internalWeddingList = FXCollections.observableArrayList();
+        private final List<Wedding> modifiedWeddings = new ArrayList<>();
 
         ModelStubWithOneWedding(WeddingId weddingId, int taskCount) throws ParseException {
             Wedding singleWedding = new Wedding(
@@ -116,5 +121,18 @@ public class UnmarkTaskCommandTest {
         public ObservableList<Wedding> getFilteredWeddingList() {
             return internalWeddingList;
         }
+
+        @Override
+        public Wedding getWeddingById(WeddingId weddingId) {
+            return internalWeddingList.stream()
+                    .filter(wedding -> wedding.getWeddingId().equals(weddingId))
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        @Override
+        public void indicateWeddingModified(Wedding wedding) {
+            modifiedWeddings.add(wedding);
+        }
     }
 }
@@ -11,7 +11,6 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddWeddingCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.wedding.Wedding;
 import seedu.address.model.wedding.WeddingDate;
 import seedu.address.model.wedding.WeddingLocation;
 import seedu.address.model.wedding.WeddingName;
@@ -33,13 +32,11 @@ public class AddWeddingCommandParserTest {
         String userInput = WEDDING_NAME_DESC_JOHN + WEDDING_DATE_DESC_JOHN + WEDDING_LOCATION_DESC_JOHN;
 
         // We expect a successful parse, producing an AddWeddingCommand
-        Wedding expectedWedding = new Wedding(
+        AddWeddingCommand expectedCommand = new AddWeddingCommand(
                 new WeddingName(VALID_WEDDING_NAME_JOHN),
                 new WeddingDate(VALID_WEDDING_DATE_JOHN),
                 new WeddingLocation(VALID_WEDDING_LOCATION_JOHN)
         );
-
-        AddWeddingCommand expectedCommand = new AddWeddingCommand(expectedWedding);
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
@@ -8,15 +8,19 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_WEDDING_NAME;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddTaskCommand;
 import seedu.address.logic.commands.AddWeddingCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ConfirmCommand;
 import seedu.address.logic.commands.DeleteCommand;
@@ -46,6 +50,9 @@ import seedu.address.testutil.PersonUtil;
 
 public class AddressBookParserTest {
 
+    @TempDir
+    public Path testFolder;
+
     private final AddressBookParser parser = new AddressBookParser();
 
     @Test
@@ -55,6 +62,14 @@ public class AddressBookParserTest {
         assertEquals(new AddCommand(person), command);
     }
 
+    @Test
+    public void parseCommand_batch() throws Exception {
+        Path filePath = testFolder.resolve("batch.txt");
+        Files.writeString(filePath, ClearCommand.COMMAND_WORD);
+        BatchCommand command = (BatchCommand) parser.parseCommand(BatchCommand.COMMAND_WORD + " " + filePath);
+        assertEquals(new BatchCommand(List.of(1), List.of(new ClearCommand())), command);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
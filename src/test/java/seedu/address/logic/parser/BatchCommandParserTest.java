@@ -0,0 +1,73 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ConfirmCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class BatchCommandParserTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final BatchCommandParser parser = new BatchCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(testFolder.resolve("missing.txt").toString()));
+    }
+
+    @Test
+    public void parse_validFile_returnsBatchCommand() throws Exception {
+        Path filePath = testFolder.resolve("batch.txt");
+        Files.writeString(filePath, "# Start afresh\n\nclear\ny\n   delete 1  \n");
+
+        BatchCommand expectedBatchCommand = new BatchCommand(List.of(3, 4, 5),
+                List.of(new ClearCommand(), new ConfirmCommand(), new DeleteCommand(INDEX_FIRST_PERSON)));
+        assertParseSuccess(parser, " " + filePath, expectedBatchCommand);
+    }
+
+    @Test
+    public void parseLines_invalidLines_reportsEveryInvalidLine() {
+        String expectedMessage = String.format(BatchCommand.MESSAGE_LINE_RESULT, 2, MESSAGE_UNKNOWN_COMMAND)
+                + "\n" + String.format(BatchCommand.MESSAGE_LINE_RESULT, 4,
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+        assertThrows(ParseException.class, expectedMessage, () ->
+                parser.parseLines(List.of("clear", "unknownCommand", "y", "delete a")));
+    }
+
+    @Test
+    public void parseLines_nestedBatch_throwsParseException() {
+        assertThrows(ParseException.class, String.format(BatchCommand.MESSAGE_LINE_RESULT, 1,
+                BatchCommandParser.MESSAGE_NESTED_BATCH), () -> parser.parseLines(List.of("batch other.txt")));
+    }
+
+    @Test
+    public void parseLines_noCommands_throwsParseException() {
+        assertThrows(ParseException.class, BatchCommandParser.MESSAGE_NO_COMMANDS, () ->
+                parser.parseLines(List.of("", "# Nothing to run")));
+    }
+
+}
@@ -28,4 +28,16 @@ public class FindCommandParserTest {
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
+
+    @Test
+    public void parse_partialMatchFlag_returnsPartialMatchFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(Arrays.asList("phot", "Ali"), true);
+        assertParseSuccess(parser, FindCommand.PARTIAL_MATCH_FLAG + " phot  Ali", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_partialMatchFlagWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, " " + FindCommand.PARTIAL_MATCH_FLAG + " ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
 }
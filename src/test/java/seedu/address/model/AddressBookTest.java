@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalWeddings.WEDDING_ONE;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -20,6 +21,8 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingId;
+import seedu.address.model.wedding.exceptions.WeddingNotFoundException;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -66,6 +69,34 @@ public class AddressBookTest {
         assertTrue(personList.contains(editedAlice));
     }
 
+    @Test
+    public void getModificationCount_changesCounted() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.hasPerson(ALICE);
+        addressBook.searchPersons(Collections.singletonList("Alice"));
+        assertEquals(initialCount, addressBook.getModificationCount());
+
+        addressBook.addPerson(ALICE);
+        assertEquals(initialCount + 1, addressBook.getModificationCount());
+        addressBook.removePerson(ALICE);
+        assertEquals(initialCount + 2, addressBook.getModificationCount());
+    }
+
+    @Test
+    public void indicateWeddingModified_weddingInAddressBook_modificationCounted() {
+        addressBook.addWedding(WEDDING_ONE);
+        long initialCount = addressBook.getModificationCount();
+        addressBook.indicateWeddingModified(WEDDING_ONE);
+        assertEquals(initialCount + 1, addressBook.getModificationCount());
+    }
+
+    @Test
+    public void indicateWeddingModified_weddingNotInAddressBook_throwsWeddingNotFoundException() {
+        long initialCount = addressBook.getModificationCount();
+        assertThrows(WeddingNotFoundException.class, () -> addressBook.indicateWeddingModified(WEDDING_ONE));
+        assertEquals(initialCount, addressBook.getModificationCount());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -121,6 +152,16 @@ public class AddressBookTest {
             // Return an empty list or a real ObservableList
             return FXCollections.observableArrayList();
         }
+
+        @Override
+        public Wedding getWeddingById(WeddingId weddingId) {
+            return null;
+        }
+
+        @Override
+        public int getNextWeddingId() {
+            return 1;
+        }
     }
 
 }
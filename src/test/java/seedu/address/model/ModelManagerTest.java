@@ -13,7 +13,16 @@ import static seedu.address.testutil.TypicalWeddings.WEDDING_TWO;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,7 +30,13 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingDate;
+import seedu.address.model.wedding.WeddingId;
+import seedu.address.model.wedding.WeddingLocation;
+import seedu.address.model.wedding.WeddingName;
+import seedu.address.model.wedding.WeddingTask;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalWeddings;
@@ -194,4 +209,122 @@ public class ModelManagerTest {
         assertEquals(WEDDING_THREE, sortedWeddings.get(2));
     }
 
+    @Test
+    public void getAddressBookSnapshot_manyReadersDuringChanges_snapshotsConsistent() throws Exception {
+        int readerCount = 8;
+        int changeCount = 1000;
+        ExecutorService threads = Executors.newFixedThreadPool(readerCount + 1);
+        try {
+            Future<?> writer = threads.submit(() -> {
+                Lock writeLock = modelManager.getAddressBookLock().writeLock();
+                for (int i = 1; i <= changeCount; i++) {
+                    // Each change adds a wedding with a task and a person tagged to it, and marks the task of the
+                    // previous wedding as done in place, as a command would while holding the write lock
+                    writeLock.lock();
+                    try {
+                        addTaggedWedding(i);
+                        if (i > 1) {
+                            Wedding previous = modelManager.getWeddingById(new WeddingId(i - 1));
+                            previous.getTasks().get(0).markAsDone();
+                            modelManager.indicateWeddingModified(previous);
+                        }
+                    } finally {
+                        writeLock.unlock();
+                    }
+                }
+                return null;
+            });
+
+            List<Future<?>> readers = new ArrayList<>();
+            for (int reader = 0; reader < readerCount; reader++) {
+                readers.add(threads.submit(() -> {
+                    int lastSize = 0;
+                    do {
+                        ReadOnlyAddressBook snapshot = modelManager.getAddressBookSnapshot();
+                        int size = snapshot.getWeddingList().size();
+                        assertTrue(size >= lastSize);
+                        assertEquals(size, snapshot.getPersonList().size());
+
+                        Set<WeddingId> weddingIds = new HashSet<>();
+                        int doneCount = 0;
+                        for (Wedding wedding : snapshot.getWeddingList()) {
+                            weddingIds.add(wedding.getWeddingId());
+                            assertEquals(1, wedding.getTasks().size());
+                            doneCount += wedding.getTasks().get(0).isDone() ? 1 : 0;
+                        }
+                        assertEquals(Math.max(0, size - 1), doneCount);
+                        for (Person person : snapshot.getPersonList()) {
+                            for (Tag tag : person.getTags()) {
+                                assertTrue(weddingIds.contains(tag.getWeddingId()));
+                            }
+                        }
+                        lastSize = size;
+                    } while (!writer.isDone());
+                    return null;
+                }));
+            }
+
+            writer.get(60, TimeUnit.SECONDS);
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+        assertEquals(changeCount, modelManager.getAddressBookSnapshot().getWeddingList().size());
+    }
+
+    @Test
+    public void searchPersons_manyReadersDuringChanges_resultsNeverShrink() throws Exception {
+        int readerCount = 8;
+        int changeCount = 1000;
+        ExecutorService threads = Executors.newFixedThreadPool(readerCount + 1);
+        try {
+            // Without a command holding the lock, each change is guarded on its own
+            Future<?> writer = threads.submit(() -> {
+                for (int i = 1; i <= changeCount; i++) {
+                    modelManager.addPerson(createVendor(i).build());
+                }
+                return null;
+            });
+
+            List<Future<?>> readers = new ArrayList<>();
+            for (int reader = 0; reader < readerCount; reader++) {
+                readers.add(threads.submit(() -> {
+                    int lastCount = 0;
+                    do {
+                        int count = modelManager.searchPersons(List.of("Vendor")).size();
+                        assertTrue(count >= lastCount && count <= changeCount);
+                        assertEquals(count > 0, modelManager.hasPerson(createVendor(1).build()));
+                        lastCount = count;
+                    } while (!writer.isDone());
+                    return null;
+                }));
+            }
+
+            writer.get(60, TimeUnit.SECONDS);
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+        assertEquals(changeCount, modelManager.searchPersons(List.of("Vendor")).size());
+    }
+
+    /**
+     * Adds wedding {@code number} with one task, and a vendor tagged to it.
+     */
+    private void addTaggedWedding(int number) throws Exception {
+        Wedding wedding = new Wedding(new WeddingId(number), new WeddingName("Wedding " + number),
+                new WeddingDate("15-Jun-2030"), new WeddingLocation("Central Park"));
+        wedding.addTask(new WeddingTask("Book the venue"));
+        modelManager.addWedding(wedding);
+        modelManager.addPerson(createVendor(number).withTags(wedding.getWeddingId().value).build());
+    }
+
+    private static PersonBuilder createVendor(int number) {
+        return new PersonBuilder().withName("Vendor " + number).withPhone(String.valueOf(80_000_000 + number))
+                .withEmail("vendor" + number + "@example.com");
+    }
 }
@@ -0,0 +1,55 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PartialMatchPredicateTest {
+    @Test
+    public void equals() {
+        PartialMatchPredicate firstPredicate = new PartialMatchPredicate(List.of("first"), Collections.emptyMap());
+        PartialMatchPredicate secondPredicate = new PartialMatchPredicate(List.of("second"), Collections.emptyMap());
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same terms -> returns true
+        assertTrue(firstPredicate.equals(new PartialMatchPredicate(List.of("first"), Map.of(ALICE, 1))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different terms -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_personsNotSearched_scoredAgainstTerms() {
+        PartialMatchPredicate predicate = new PartialMatchPredicate(List.of("pauline"), Collections.emptyMap());
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(new PersonBuilder(BENSON).withName("Paulina Meier").build()));
+        assertFalse(predicate.test(BENSON));
+    }
+
+    @Test
+    public void mostRelevantFirst_searchedAndUnsearchedPersons_orderedByRelevance() {
+        PartialMatchPredicate predicate = new PartialMatchPredicate(List.of("paul"),
+                Map.of(ALICE, PersonSearchIndex.SCORE_PREFIX));
+        Person exactMatch = new PersonBuilder(BENSON).withName("Paul Meier").build();
+        assertTrue(predicate.mostRelevantFirst().compare(exactMatch, ALICE) < 0);
+        assertEquals(0, predicate.mostRelevantFirst().compare(ALICE, ALICE));
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+
+    @Test
+    public void search_exactAndPrefixOfWord_scoredByMatch() {
+        searchIndex.add(ALICE);
+        searchIndex.add(BENSON);
+        assertEquals(Map.of(ALICE, PersonSearchIndex.SCORE_EXACT), search("alice"));
+        assertEquals(Map.of(ALICE, PersonSearchIndex.SCORE_PREFIX), search("PAUL"));
+    }
+
+    @Test
+    public void search_substringOfWord_personFound() {
+        searchIndex.add(CARL);
+        assertEquals(Map.of(CARL, PersonSearchIndex.SCORE_SUBSTRING), search("tograph"));
+    }
+
+    @Test
+    public void search_misspeltWord_personFound() {
+        searchIndex.add(CARL);
+        assertEquals(Map.of(CARL, PersonSearchIndex.SCORE_APPROXIMATE), search("fotographer"));
+        assertTrue(search("fotograffer").isEmpty()); // four edits away
+    }
+
+    @Test
+    public void search_emailAndAddressWords_personFound() {
+        searchIndex.add(ALICE);
+        assertEquals(Map.of(ALICE, 3 * PersonSearchIndex.SCORE_EXACT), search("alice@example.com"));
+        assertEquals(Map.of(ALICE, PersonSearchIndex.SCORE_PREFIX), search("juro"));
+    }
+
+    @Test
+    public void relevanceOf_personNotInIndex_sameAsSearch() {
+        Person editedCarl = new PersonBuilder(CARL).withName("Carlos Kurzweil").build();
+        searchIndex.add(editedCarl);
+        for (List<String> terms : List.of(List.of("carlos"), List.of("kurz"), List.of("tograph"),
+                List.of("fotographer"), List.of("carlos", "kurz", "xyz"), List.of("xyz"))) {
+            assertEquals((int) searchIndex.search(terms).getOrDefault(editedCarl, 0),
+                    PersonSearchIndex.relevanceOf(editedCarl, terms));
+        }
+    }
+
+    @Test
+    public void search_severalTerms_relevanceSummed() {
+        searchIndex.add(ALICE);
+        searchIndex.add(BENSON);
+        Map<Person, Integer> relevance = searchIndex.search(Arrays.asList("alice", "flor", "clementi"));
+        assertEquals(Map.of(ALICE, PersonSearchIndex.SCORE_EXACT + PersonSearchIndex.SCORE_PREFIX,
+                BENSON, PersonSearchIndex.SCORE_EXACT), relevance);
+    }
+
+    @Test
+    public void search_personRemoved_personNotFound() {
+        searchIndex.add(ALICE);
+        searchIndex.add(ALICE);
+        searchIndex.remove(ALICE);
+        assertEquals(Map.of(ALICE, PersonSearchIndex.SCORE_PREFIX), search("ali"));
+        searchIndex.remove(ALICE);
+        assertTrue(search("ali").isEmpty());
+        assertTrue(search("alise").isEmpty());
+    }
+
+    @Test
+    public void isWithinEditDistance() {
+        assertTrue(PersonSearchIndex.isWithinEditDistance("kurz", "kurz", 0));
+        assertTrue(PersonSearchIndex.isWithinEditDistance("kurz", "kunz", 1));
+        assertTrue(PersonSearchIndex.isWithinEditDistance("kurz", "kurtz", 1));
+        assertTrue(PersonSearchIndex.isWithinEditDistance("photographer", "fotographer", 2));
+        assertFalse(PersonSearchIndex.isWithinEditDistance("photographer", "fotographer", 1));
+        assertFalse(PersonSearchIndex.isWithinEditDistance("kurz", "kurzweil", 2));
+    }
+
+    @Test
+    public void search_hundredThousandPersons_answersEachQueryWithinTenMilliseconds() {
+        String[] syllables = {"al", "be", "ca", "de", "el", "fi", "go", "ha", "in", "jo", "ka", "li", "mo", "na",
+            "or", "pe", "qu", "ra", "si", "ta", "ul", "ve", "wi", "xa", "yo", "ze"};
+        String[] roles = {"florist", "caterer", "photographer", "planner", "musician", "baker", "stylist", "host"};
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            String name = syllables[random.nextInt(26)] + syllables[random.nextInt(26)] + syllables[random.nextInt(26)]
+                    + " " + syllables[random.nextInt(26)] + syllables[random.nextInt(26)] + i;
+            searchIndex.add(new PersonBuilder().withName(name).withRole(roles[i % roles.length])
+                    .withEmail("contact" + i + "@example.com").withAddress("Blk " + i + " Street " + (i % 50))
+                    .build());
+        }
+
+        List<String> queries = Arrays.asList("phot", "al", "kalimo", "tograph", "fotographer", "street", "ze123");
+        for (int round = 0; round < 5; round++) { // warm up
+            queries.forEach(query -> searchIndex.search(Collections.singletonList(query)));
+        }
+        assertTimeout(Duration.ofMillis(10L * 10 * queries.size()), () -> {
+            for (int round = 0; round < 10; round++) {
+                for (String query : queries) {
+                    searchIndex.search(Collections.singletonList(query));
+                }
+            }
+        });
+    }
+
+    private Map<Person, Integer> search(String term) {
+        return searchIndex.search(Collections.singletonList(term));
+    }
+}
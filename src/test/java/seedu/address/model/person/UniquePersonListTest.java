@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_BOB;
@@ -9,15 +10,19 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.person.exceptions.RequiresConfirmationException;
+import seedu.address.model.wedding.WeddingId;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -48,6 +53,82 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentCaseAndSpacing_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person aliceWithSpacing = new PersonBuilder(ALICE).withName("alice   PAULINE").build();
+        assertTrue(uniquePersonList.contains(aliceWithSpacing));
+    }
+
+    @Test
+    public void contains_personRemoved_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_oneOfForcedDuplicatesRemoved_returnsTrue() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(editedAlice, true);
+        uniquePersonList.remove(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personReplacedWithDifferentIdentity_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void getPersonsTaggedWith_taggedPersonsInList_returnsOnlyTaggedPersons() {
+        Person taggedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_BOB).build();
+        uniquePersonList.add(taggedAlice);
+        uniquePersonList.add(BOB);
+        assertEquals(Collections.singletonList(taggedAlice),
+                uniquePersonList.getPersonsTaggedWith(new WeddingId(VALID_TAG_BOB)));
+    }
+
+    @Test
+    public void getPersonsTaggedWith_tagRemovedByEdit_returnsEmptyList() {
+        Person taggedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_BOB).build();
+        uniquePersonList.add(taggedAlice);
+        uniquePersonList.setPerson(taggedAlice, ALICE);
+        assertTrue(uniquePersonList.getPersonsTaggedWith(new WeddingId(VALID_TAG_BOB)).isEmpty());
+    }
+
+    @Test
+    public void getPersonsTaggedWith_taggedPersonRemoved_returnsEmptyList() {
+        Person taggedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_BOB).build();
+        uniquePersonList.add(taggedAlice);
+        uniquePersonList.remove(taggedAlice);
+        assertTrue(uniquePersonList.getPersonsTaggedWith(new WeddingId(VALID_TAG_BOB)).isEmpty());
+    }
+
+    @Test
+    public void searchPersons_personEditedAfterFirstSearch_editedPersonFound() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Set.of(ALICE), uniquePersonList.searchPersons(Collections.singletonList("pau")).keySet());
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertTrue(uniquePersonList.searchPersons(Collections.singletonList("pau")).isEmpty());
+        assertEquals(Set.of(editedAlice), uniquePersonList.searchPersons(Collections.singletonList("tan")).keySet());
+    }
+
+    @Test
+    public void remove_personBeforeOtherPersons_laterPersonsStillReplaceable() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).withTags(VALID_TAG_BOB).build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        assertEquals(Collections.singletonList(editedBob), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -163,6 +244,30 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void findDuplicatePersons_listWithDuplicatePersons_returnsLaterDuplicates() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice);
+        assertEquals(Collections.singletonList(editedAlice),
+                UniquePersonList.findDuplicatePersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void findDuplicatePersons_uniqueList_returnsEmptyList() {
+        assertTrue(UniquePersonList.findDuplicatePersons(Arrays.asList(ALICE, BOB)).isEmpty());
+    }
+
+    @Test
+    public void setPersons_largeList_completesQuickly() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            persons.add(new PersonBuilder(ALICE).withName("Person " + i).build());
+        }
+        // A pairwise comparison of 100k persons takes minutes; a hashing pass takes milliseconds.
+        assertTimeout(Duration.ofSeconds(2), () -> uniquePersonList.setPersons(persons));
+        assertEquals(persons.size(), uniquePersonList.asUnmodifiableObservableList().size());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -2,9 +2,15 @@ package seedu.address.model.wedding;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -18,13 +24,12 @@ import seedu.address.model.wedding.exceptions.WeddingNotFoundException;
 
 public class UniqueWeddingListTest {
 
-    // By default, these two use the constructor that auto-generates IDs.
-    // For example, WEDDING_A might end up with "W1", WEDDING_B with "W2".
     private static final Wedding WEDDING_A;
 
     static {
         try {
             WEDDING_A = new Wedding(
+                    new WeddingId("W1"),
                     new WeddingName("Alice & Bob Wedding"),
                     new WeddingDate("01-Jan-2026"),
                     new WeddingLocation("Beach")
@@ -39,6 +44,7 @@ public class UniqueWeddingListTest {
     static {
         try {
             WEDDING_B = new Wedding(
+                    new WeddingId("W2"),
                     new WeddingName("Carol & David Wedding"),
                     new WeddingDate("02-Feb-2026"),
                     new WeddingLocation("Garden")
@@ -51,9 +57,7 @@ public class UniqueWeddingListTest {
     private UniqueWeddingList uniqueWeddingList = new UniqueWeddingList();
 
     @BeforeEach
-    public void resetWeddingNextId() {
-        // Reset the static counter so that tests don't interfere with each other.
-        Wedding.setNextId(1);
+    public void setUp() {
         uniqueWeddingList = new UniqueWeddingList();
     }
 
@@ -74,6 +78,116 @@ public class UniqueWeddingListTest {
         assertTrue(uniqueWeddingList.contains(WEDDING_A));
     }
 
+    @Test
+    public void contains_sameNameDateAndLocation_returnsTrue() throws ParseException {
+        uniqueWeddingList.add(WEDDING_A);
+        assertTrue(uniqueWeddingList.contains(new WeddingName("Alice & Bob Wedding"), new WeddingDate("01-Jan-2026"),
+                new WeddingLocation("Beach")));
+        assertFalse(uniqueWeddingList.contains(new WeddingName("Alice & Bob Wedding"), new WeddingDate("01-Jan-2026"),
+                new WeddingLocation("Garden")));
+    }
+
+    @Test
+    public void contains_weddingEditedOrRemoved_followsList() {
+        uniqueWeddingList.add(WEDDING_A);
+        Wedding editedA = new Wedding(WEDDING_A.getWeddingId(), WEDDING_A.getWeddingName(),
+                WEDDING_A.getWeddingDate(), new WeddingLocation("Hotel"));
+        uniqueWeddingList.setWedding(WEDDING_A, editedA);
+        assertFalse(uniqueWeddingList.contains(WEDDING_A));
+        assertTrue(uniqueWeddingList.contains(editedA));
+
+        uniqueWeddingList.remove(editedA);
+        assertFalse(uniqueWeddingList.contains(editedA));
+    }
+
+    // ========================== CONTAINSINSTANCE TESTS ==========================
+    @Test
+    public void containsInstance_nullWedding_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueWeddingList.containsInstance(null));
+    }
+
+    @Test
+    public void containsInstance_weddingInList_returnsTrue() {
+        uniqueWeddingList.add(WEDDING_A);
+        assertTrue(uniqueWeddingList.containsInstance(WEDDING_A));
+    }
+
+    @Test
+    public void containsInstance_equalWeddingNotInList_returnsFalse() {
+        uniqueWeddingList.add(WEDDING_A);
+        Wedding copyOfA = new Wedding(WEDDING_A.getWeddingId(), WEDDING_A.getWeddingName(),
+                WEDDING_A.getWeddingDate(), WEDDING_A.getWeddingLocation());
+        assertFalse(uniqueWeddingList.containsInstance(copyOfA));
+    }
+
+    @Test
+    public void containsInstance_weddingSharingId_returnsTrue() {
+        Wedding sharingIdWithA = new Wedding(WEDDING_A.getWeddingId(), WEDDING_B.getWeddingName(),
+                WEDDING_B.getWeddingDate(), WEDDING_B.getWeddingLocation());
+        uniqueWeddingList.add(WEDDING_A);
+        uniqueWeddingList.add(sharingIdWithA);
+        assertTrue(uniqueWeddingList.containsInstance(sharingIdWithA));
+        uniqueWeddingList.remove(sharingIdWithA);
+        assertFalse(uniqueWeddingList.containsInstance(sharingIdWithA));
+    }
+
+    // ========================== GETWEDDINGBYID TESTS ==========================
+    @Test
+    public void getWeddingById_weddingInList_returnsWedding() {
+        uniqueWeddingList.add(WEDDING_A);
+        assertSame(WEDDING_A, uniqueWeddingList.getWeddingById(WEDDING_A.getWeddingId()));
+    }
+
+    @Test
+    public void getWeddingById_weddingNotInList_returnsNull() {
+        uniqueWeddingList.add(WEDDING_A);
+        assertNull(uniqueWeddingList.getWeddingById(new WeddingId("W999")));
+    }
+
+    @Test
+    public void getWeddingById_weddingRemoved_returnsNull() {
+        uniqueWeddingList.add(WEDDING_A);
+        uniqueWeddingList.remove(WEDDING_A);
+        assertNull(uniqueWeddingList.getWeddingById(WEDDING_A.getWeddingId()));
+    }
+
+    @Test
+    public void getWeddingById_weddingEdited_returnsEditedWedding() {
+        uniqueWeddingList.add(WEDDING_A);
+        Wedding editedA = new Wedding(WEDDING_A.getWeddingId(), WEDDING_A.getWeddingName(),
+                WEDDING_A.getWeddingDate(), new WeddingLocation("Hotel"));
+        uniqueWeddingList.setWedding(WEDDING_A, editedA);
+        assertSame(editedA, uniqueWeddingList.getWeddingById(WEDDING_A.getWeddingId()));
+    }
+
+    @Test
+    public void getWeddingById_weddingsSharingIdRemoved_returnsNextWeddingWithId() {
+        Wedding sharingIdWithA = new Wedding(WEDDING_A.getWeddingId(), WEDDING_B.getWeddingName(),
+                WEDDING_B.getWeddingDate(), WEDDING_B.getWeddingLocation());
+        Wedding alsoSharingIdWithA = new Wedding(WEDDING_A.getWeddingId(), WEDDING_B.getWeddingName(),
+                WEDDING_B.getWeddingDate(), new WeddingLocation("Hotel"));
+        uniqueWeddingList.add(WEDDING_A);
+        uniqueWeddingList.add(sharingIdWithA);
+        uniqueWeddingList.add(alsoSharingIdWithA);
+
+        uniqueWeddingList.remove(sharingIdWithA);
+        assertSame(WEDDING_A, uniqueWeddingList.getWeddingById(WEDDING_A.getWeddingId()));
+        uniqueWeddingList.remove(WEDDING_A);
+        assertSame(alsoSharingIdWithA, uniqueWeddingList.getWeddingById(WEDDING_A.getWeddingId()));
+        uniqueWeddingList.remove(alsoSharingIdWithA);
+        assertNull(uniqueWeddingList.getWeddingById(WEDDING_A.getWeddingId()));
+    }
+
+    @Test
+    public void getWeddingById_afterSetWeddings_returnsReplacementWedding() {
+        Wedding replacement = new Wedding(new WeddingId("W50"), WEDDING_B.getWeddingName(),
+                WEDDING_B.getWeddingDate(), WEDDING_B.getWeddingLocation());
+        uniqueWeddingList.add(WEDDING_A);
+        uniqueWeddingList.setWeddings(Collections.singletonList(replacement));
+        assertNull(uniqueWeddingList.getWeddingById(WEDDING_A.getWeddingId()));
+        assertSame(replacement, uniqueWeddingList.getWeddingById(new WeddingId("W50")));
+    }
+
     // ========================== ADD TESTS ==========================
     @Test
     public void add_nullWedding_throwsNullPointerException() {
@@ -81,30 +195,41 @@ public class UniqueWeddingListTest {
     }
 
     @Test
-    public void add_newWedding_incrementsNextId() throws ParseException {
-        int originalNextId = Wedding.getNextId();
-        Wedding newWedding = new Wedding(
-                new WeddingName("New Wedding"),
-                new WeddingDate("04-Apr-2026"),
-                new WeddingLocation("Hall")
-        );
-        uniqueWeddingList.add(newWedding);
-        // For new weddings, the add method increments nextId.
-        assertEquals(originalNextId + 1, Wedding.getNextId());
+    public void add_wedding_nextIdAboveWeddingId() {
+        Wedding wedding = new Wedding(new WeddingId("W7"), WEDDING_A.getWeddingName(),
+                WEDDING_A.getWeddingDate(), WEDDING_A.getWeddingLocation());
+        uniqueWeddingList.add(wedding);
+        assertEquals(8, uniqueWeddingList.getNextWeddingId());
+
+        // Adding a wedding with a smaller id does not move the next id back
+        uniqueWeddingList.add(WEDDING_B);
+        assertEquals(8, uniqueWeddingList.getNextWeddingId());
     }
 
     @Test
-    public void add_restoredWedding_doesNotIncrementNextId() throws ParseException {
-        int originalNextId = Wedding.getNextId();
-        Wedding restoredWedding = new Wedding(
-                new WeddingId("W" + originalNextId),
-                new WeddingName("Restored Wedding"),
-                new WeddingDate("05-May-2026"),
-                new WeddingLocation("Garden"),
-                true
-        );
-        uniqueWeddingList.add(restoredWedding);
-        assertEquals(originalNextId + 1, Wedding.getNextId());
+    public void allocateWeddingId_afterAdd_returnsUnusedId() {
+        uniqueWeddingList.add(WEDDING_A);
+        uniqueWeddingList.add(WEDDING_B);
+        assertEquals(new WeddingId("W3"), uniqueWeddingList.allocateWeddingId());
+        assertEquals(new WeddingId("W4"), uniqueWeddingList.allocateWeddingId());
+    }
+
+    @Test
+    public void allocateWeddingId_afterRemove_doesNotReuseId() {
+        uniqueWeddingList.add(WEDDING_A);
+        uniqueWeddingList.add(WEDDING_B);
+        uniqueWeddingList.remove(WEDDING_B);
+        assertEquals(new WeddingId("W3"), uniqueWeddingList.allocateWeddingId());
+    }
+
+    @Test
+    public void setNextWeddingId_belowLargestId_nextIdAboveLargestId() {
+        uniqueWeddingList.add(WEDDING_B);
+        uniqueWeddingList.setNextWeddingId(1);
+        assertEquals(3, uniqueWeddingList.getNextWeddingId());
+
+        uniqueWeddingList.setNextWeddingId(10);
+        assertEquals(10, uniqueWeddingList.getNextWeddingId());
     }
 
     // ========================== SETWEDDING TESTS ==========================
@@ -203,6 +328,28 @@ public class UniqueWeddingListTest {
         assertEquals(expectedList, uniqueWeddingList);
     }
 
+    @Test
+    public void setWeddings_listWithDuplicateWeddings_reportsDuplicates() {
+        Wedding duplicateOfA = new Wedding(new WeddingId("W99"), WEDDING_A.getWeddingName(),
+                WEDDING_A.getWeddingDate(), WEDDING_A.getWeddingLocation());
+        List<Wedding> weddingList = Arrays.asList(WEDDING_A, WEDDING_B, duplicateOfA);
+        DuplicateWeddingException exception = assertThrows(DuplicateWeddingException.class, () ->
+                uniqueWeddingList.setWeddings(weddingList));
+        assertEquals(Collections.singletonList(duplicateOfA), exception.getDuplicates());
+    }
+
+    @Test
+    public void setWeddings_largeList_completesQuickly() {
+        List<Wedding> weddings = new ArrayList<>();
+        for (int i = 1; i <= 100_000; i++) {
+            weddings.add(new Wedding(new WeddingId("W" + i), new WeddingName("Wedding " + i),
+                    WEDDING_A.getWeddingDate(), WEDDING_A.getWeddingLocation()));
+        }
+        // A pairwise comparison of 100k weddings takes minutes; a hashing pass takes milliseconds.
+        assertTimeout(Duration.ofSeconds(2), () -> uniqueWeddingList.setWeddings(weddings));
+        assertEquals(weddings.size(), uniqueWeddingList.asUnmodifiableObservableList().size());
+    }
+
     // ========================== ASUNMODIFIABLEOBSERVABLELIST TEST ==========================
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
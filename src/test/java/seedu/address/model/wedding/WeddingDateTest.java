@@ -1,10 +1,13 @@
 package seedu.address.model.wedding;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -100,6 +103,42 @@ public class WeddingDateTest {
         assertNotEquals(date1, date2);
     }
 
+    @Test
+    public void constructor_storedForm_keepsValue() throws ParseException {
+        assertEquals("29-Feb-2028", new WeddingDate("29-Feb-2028").value);
+        assertEquals("01-Jan-2030", new WeddingDate("01-Jan-2030").value);
+    }
+
+    @Test
+    public void constructor_otherForms_convertedToStoredForm() throws ParseException {
+        assertEquals("05-Jan-2030", new WeddingDate("2030 January 5").value);
+        assertEquals("05-Jan-2030", new WeddingDate("05012030").value);
+        assertEquals("05-Jan-2030", new WeddingDate("Jan 5, 2030").value);
+    }
+
+    @Test
+    public void toEpochDay_laterDate_largerValue() throws ParseException {
+        assertEquals(LocalDate.of(2030, 2, 1).toEpochDay(), new WeddingDate("01-Feb-2030").toEpochDay());
+        assertTrue(new WeddingDate("01-Feb-2030").toEpochDay() < new WeddingDate("2030-Aug-01").toEpochDay());
+        assertTrue(new WeddingDate("31-Dec-2030").toEpochDay() < new WeddingDate("01-Apr-2031").toEpochDay());
+    }
+
+    @Test
+    public void isValidDate_nonExistentDate_throwsParseException() {
+        ParseException thrown = assertThrows(ParseException.class, () -> WeddingDate.isValidDate("29-Feb-2029"));
+        assertEquals(WeddingDate.MESSAGE_DATE_OUT_OF_RANGE, thrown.getMessage());
+        thrown = assertThrows(ParseException.class, () -> WeddingDate.isValidDate("32-Jan-2030"));
+        assertEquals(WeddingDate.MESSAGE_DATE_OUT_OF_RANGE, thrown.getMessage());
+        thrown = assertThrows(ParseException.class, () -> WeddingDate.isValidDate("01-Jan-0000"));
+        assertEquals(WeddingDate.MESSAGE_DATE_OUT_OF_RANGE, thrown.getMessage());
+    }
+
+    @Test
+    public void isValidDate_unknownFormat_returnsFalse() throws ParseException {
+        assertFalse(WeddingDate.isValidDate("01-jan-2030"));
+        assertFalse(WeddingDate.isValidDate("2030-01-01T00:00"));
+        assertFalse(WeddingDate.isValidDate(""));
+    }
 
     @Test
     public void isValidDate_pastDate_throwsParseException() {
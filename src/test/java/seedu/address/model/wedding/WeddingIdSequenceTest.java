@@ -0,0 +1,79 @@
+package seedu.address.model.wedding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class WeddingIdSequenceTest {
+
+    private final WeddingIdSequence sequence = new WeddingIdSequence();
+
+    @Test
+    public void allocate_newSequence_startsAtOne() {
+        assertEquals(new WeddingId("W1"), sequence.allocate());
+        assertEquals(new WeddingId("W2"), sequence.allocate());
+        assertEquals(3, sequence.getNextId());
+    }
+
+    @Test
+    public void reserve_anyOrder_nextIdAboveLargestId() {
+        sequence.reserve(new WeddingId("W7"));
+        sequence.reserve(new WeddingId("W3"));
+        assertEquals(8, sequence.getNextId());
+        assertEquals(new WeddingId("W8"), sequence.allocate());
+    }
+
+    @Test
+    public void reserve_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> sequence.reserve(null));
+    }
+
+    @Test
+    public void setNextId_invalidNextId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, WeddingIdSequence.MESSAGE_CONSTRAINTS, () ->
+                sequence.setNextId(0));
+    }
+
+    @Test
+    public void allocate_manyThreads_noDuplicates() throws Exception {
+        int threadCount = 16;
+        int idsPerThread = 1000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService threads = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<List<WeddingId>>> results = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                results.add(threads.submit(() -> {
+                    start.await();
+                    List<WeddingId> ids = new ArrayList<>();
+                    for (int j = 0; j < idsPerThread; j++) {
+                        ids.add(sequence.allocate());
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            Set<WeddingId> allIds = new HashSet<>();
+            for (Future<List<WeddingId>> result : results) {
+                allIds.addAll(result.get(30, TimeUnit.SECONDS));
+            }
+            assertEquals(threadCount * idsPerThread, allIds.size());
+            assertEquals(threadCount * idsPerThread + 1, sequence.getNextId());
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+}
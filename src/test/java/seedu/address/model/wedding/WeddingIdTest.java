@@ -77,4 +77,26 @@ public class WeddingIdTest {
         WeddingId id2 = new WeddingId("W11");
         assertNotEquals(id1, id2);
     }
+
+    @Test
+    public void equals_sameNumberWithLeadingZeros_returnsFalse() {
+        WeddingId id1 = new WeddingId("W10");
+        WeddingId id2 = new WeddingId("W010");
+        assertEquals(id1.valueInt, id2.valueInt);
+        assertNotEquals(id1, id2);
+    }
+
+    @Test
+    public void constructor_sequenceNumber_sameAsParsedId() {
+        WeddingId id = new WeddingId(42);
+        assertEquals("W42", id.value);
+        assertEquals(new WeddingId("W42"), id);
+        assertEquals(new WeddingId("W42").hashCode(), id.hashCode());
+    }
+
+    @Test
+    public void constructor_negativeOrZeroSequenceNumber_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new WeddingId(-1));
+        assertThrows(IllegalArgumentException.class, () -> new WeddingId(0));
+    }
 }
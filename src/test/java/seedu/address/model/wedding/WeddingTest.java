@@ -5,30 +5,21 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 
 public class WeddingTest {
 
-    @Test
-    public void constructor_autoGeneratedId_success() throws ParseException {
-        // Creates a Wedding with an auto-generated ID
-        Wedding w = new Wedding(
-                new WeddingName("Alice & Bob"),
-                new WeddingDate("01-Dec-2025"),
-                new WeddingLocation("Paris")
-        );
-
-        // Check that the ID starts with 'W'
-        assertTrue(w.getWeddingId().value.startsWith("W"), "Expected ID to start with 'W'");
-
-        // Verify basic fields
-        assertEquals(new WeddingName("Alice & Bob"), w.getWeddingName());
-        assertEquals(new WeddingDate("01-Dec-2025"), w.getWeddingDate());
-        assertEquals(new WeddingLocation("Paris"), w.getWeddingLocation());
-    }
-
     @Test
     public void constructor_withSpecifiedId_success() throws ParseException {
         // Suppose we have an existing ID "W10" from saved data
@@ -48,6 +39,7 @@ public class WeddingTest {
     public void isSameWedding() throws ParseException {
         // Wedding #1
         Wedding w1 = new Wedding(
+                new WeddingId("W1"),
                 new WeddingName("Alice & Bob"),
                 new WeddingDate("01-Dec-2025"),
                 new WeddingLocation("Paris")
@@ -61,6 +53,7 @@ public class WeddingTest {
 
         // different name -> returns false
         Wedding w2 = new Wedding(
+                new WeddingId("W1"),
                 new WeddingName("Eve & Frank"),
                 new WeddingDate("01-Dec-2025"),
                 new WeddingLocation("Paris")
@@ -69,6 +62,7 @@ public class WeddingTest {
 
         // same name, date, location => returns true
         Wedding w3 = new Wedding(
+                new WeddingId("W1"),
                 new WeddingName("Alice & Bob"),
                 new WeddingDate("01-Dec-2025"),
                 new WeddingLocation("Paris")
@@ -79,6 +73,7 @@ public class WeddingTest {
     @Test
     public void equals_sameObject_returnsTrue() throws ParseException {
         Wedding w1 = new Wedding(
+                new WeddingId("W1"),
                 new WeddingName("Alice & Bob"),
                 new WeddingDate("01-Dec-2025"),
                 new WeddingLocation("Paris")
@@ -90,6 +85,7 @@ public class WeddingTest {
     @Test
     public void equals_differentType_returnsFalse() throws ParseException {
         Wedding w1 = new Wedding(
+                new WeddingId("W1"),
                 new WeddingName("Alice & Bob"),
                 new WeddingDate("01-Dec-2025"),
                 new WeddingLocation("Paris")
@@ -118,8 +114,8 @@ public class WeddingTest {
 
     @Test
     public void equals_differentId_returnsFalse() throws ParseException {
-        // w1 uses auto-generated ID, w2 has a specified ID
         Wedding w1 = new Wedding(
+                new WeddingId("W1"),
                 new WeddingName("Alice & Bob"),
                 new WeddingDate("01-Dec-2025"),
                 new WeddingLocation("Paris")
@@ -172,6 +168,7 @@ public class WeddingTest {
     @Test
     public void toString_correctFormat() throws ParseException {
         Wedding w = new Wedding(
+                new WeddingId("W1"),
                 new WeddingName("Alice & Bob"),
                 new WeddingDate("01-Dec-2025"),
                 new WeddingLocation("Paris")
@@ -184,6 +181,7 @@ public class WeddingTest {
     @Test
     public void getTasksString_noTask() throws ParseException {
         Wedding w = new Wedding(
+                new WeddingId("W1"),
                 new WeddingName("Alice & Bob"),
                 new WeddingDate("01-Dec-2025"),
                 new WeddingLocation("Paris")
@@ -194,6 +192,7 @@ public class WeddingTest {
     @Test
     public void getTasksString_oneTask() throws ParseException {
         Wedding w = new Wedding(
+                new WeddingId("W1"),
                 new WeddingName("Alice & Bob"),
                 new WeddingDate("01-Dec-2025"),
                 new WeddingLocation("Paris")
@@ -205,6 +204,7 @@ public class WeddingTest {
     @Test
     public void getTasksString_multipleTasks() throws ParseException {
         Wedding w = new Wedding(
+                new WeddingId("W1"),
                 new WeddingName("Alice & Bob"),
                 new WeddingDate("01-Dec-2025"),
                 new WeddingLocation("Paris")
@@ -214,4 +214,36 @@ public class WeddingTest {
         w.addTask(new WeddingTask("Task 3"));
         assertEquals("There are 3 tasks for this wedding", w.getTasksString());
     }
+
+    @Test
+    public void getTasks_firstAccessOnManyThreads_loadsOnce() throws Exception {
+        int threadCount = 16;
+        AtomicInteger loadCount = new AtomicInteger();
+        Wedding wedding = new Wedding(new WeddingId("W10"), new WeddingName("Charlie & Diana"),
+                new WeddingDate("01-Jan-2026"), new WeddingLocation("Hawaii"), () -> {
+                    loadCount.incrementAndGet();
+                    return List.of(new WeddingTask("Task 1"), new WeddingTask("Task 2"));
+                });
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService threads = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<Integer>> taskCounts = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                taskCounts.add(threads.submit(() -> {
+                    start.await();
+                    // Copies share the loader until the tasks are loaded, and must not see them half loaded
+                    wedding.copy();
+                    return wedding.getTasks().size();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> taskCount : taskCounts) {
+                assertEquals(2, (int) taskCount.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+        assertEquals(1, loadCount.get());
+    }
 }
@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FsyncPolicy;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingDate;
+import seedu.address.model.wedding.WeddingId;
+import seedu.address.model.wedding.WeddingLocation;
+import seedu.address.model.wedding.WeddingName;
+import seedu.address.model.wedding.WeddingTask;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getAddressBookWithWeddings();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getWeddingList().get(0).getTasks(), readBack.getWeddingList().get(0).getTasks());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_sharedStrings_writtenOnce() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 100; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withRole("photographer")
+                    .withAddress("Shared Street 1").build());
+        }
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        String contents = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        assertEquals(contents.indexOf("photographer"), contents.lastIndexOf("photographer"));
+        assertEquals(contents.indexOf("Shared Street 1"), contents.lastIndexOf("Shared Street 1"));
+    }
+
+    @Test
+    public void readAddressBook_largeFile_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 30_000; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withEmail("person" + i + "@example.com")
+                    .build());
+        }
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.size(filePath) > 1024 * 1024); // large enough to be mapped
+
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void convertJsonToBinaryAndBack_lossless() throws Exception {
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getAddressBookWithWeddings();
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+        byte[] originalJson = Files.readAllBytes(jsonPath);
+
+        // The binary storage reads the JSON file, and the JSON storage reads the binary file
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryPath);
+        binaryStorage.saveAddressBook(binaryStorage.readAddressBook(jsonPath).get());
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonPath);
+        jsonStorage.saveAddressBook(jsonStorage.readAddressBook(binaryPath).get());
+
+        assertTrue(Arrays.equals(originalJson, Files.readAllBytes(jsonPath)));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getAddressBookWithWeddings());
+        byte[] contents = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(contents, contents.length - 3));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getAddressBookWithWeddings());
+        byte[] contents = Files.readAllBytes(filePath);
+        contents[BinaryAddressBookStorage.MAGIC.length] = BinaryAddressBookStorage.FORMAT_VERSION + 1;
+        Files.write(filePath, contents);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_newestWeddingRemoved_nextWeddingIdKept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook addressBook = getAddressBookWithWeddings();
+        addressBook.removeWedding(addressBook.getWeddingById(new WeddingId("W02")));
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        assertEquals(3, new BinaryAddressBookStorage(filePath).readAddressBook().get().getNextWeddingId());
+    }
+
+    @Test
+    public void readAddressBook_versionOneFile_nextWeddingIdAboveLargestId() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook addressBook = getAddressBookWithWeddings();
+        addressBook.setNextWeddingId(10);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        // Version 1 files are the same but for the version and the next wedding ID, which is the last byte here
+        byte[] contents = Files.readAllBytes(filePath);
+        contents[BinaryAddressBookStorage.MAGIC.length] = 1;
+        Files.write(filePath, Arrays.copyOf(contents, contents.length - 1));
+
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(readBack));
+        assertEquals(3, readBack.getNextWeddingId());
+    }
+
+    @Test
+    public void readAddressBook_jsonSnapshot_convertedOnNextSave() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getAddressBookWithWeddings();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath,
+                JournaledAddressBookStorage.DEFAULT_MAX_JOURNAL_ENTRIES, DataFileFormat.BINARY, true,
+                FsyncPolicy.NEVER);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    private static AddressBook getAddressBookWithWeddings() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Wedding wedding = new Wedding(new WeddingId("W1"), new WeddingName("Alice and Bob"),
+                new WeddingDate("15-Jun-2030"), new WeddingLocation("Central Park"));
+        WeddingTask doneTask = new WeddingTask("Book the venue");
+        doneTask.markAsDone();
+        wedding.addTask(doneTask);
+        wedding.addTask(new WeddingTask("Send invitations \u2709"));
+        addressBook.addWedding(wedding);
+        addressBook.addWedding(new Wedding(new WeddingId("W02"), new WeddingName("Carl and Elle"),
+                new WeddingDate("01-Jan-2031"), new WeddingLocation("Central Park")));
+        return addressBook;
+    }
+
+}
@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.FsyncPolicy;
+import seedu.address.model.AddressBook;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingDate;
+import seedu.address.model.wedding.WeddingId;
+import seedu.address.model.wedding.WeddingLocation;
+import seedu.address.model.wedding.WeddingName;
+import seedu.address.model.wedding.WeddingTask;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures how long address books of various sizes take to save and load in each data file format, and how large
+ * their data files are, to help choose a format for where the data file is kept.
+ * <p>
+ * Run with {@code gradlew benchmarkDataFile}, optionally passing the numbers of persons to measure as
+ * {@code --args="1000 10000"}. Besides the times on the local disk, the table estimates the load time from a
+ * network drive, where reading the data file at {@link #NETWORK_MEGABYTES_PER_SECOND} MB/s adds to the load time.
+ */
+public class DataFileBenchmark {
+
+    private static final int[] DEFAULT_PERSON_COUNTS = {1_000, 10_000, 100_000};
+    private static final int PERSONS_PER_WEDDING = 50;
+    private static final int ROUNDS = 5;
+    private static final double NETWORK_MEGABYTES_PER_SECOND = 10;
+
+    private static final String[] ROLES = {"florist", "photographer", "caterer", "baker", "decorator", "musician",
+        "planner", "videographer", "officiant", "driver"};
+    private static final String[] VENUES = {"Central Park", "Marina Bay Sands", "Raffles Hotel", "Botanic Gardens",
+        "Sentosa Beach", "Fullerton Hotel", "Capella Singapore", "Jewel Changi"};
+
+    private static final Variant[] VARIANTS = {
+        new Variant("JSON, pretty", path -> new JsonAddressBookStorage(path, true, false, FsyncPolicy.NEVER)),
+        new Variant("JSON, compact", path -> new JsonAddressBookStorage(path, false, false, FsyncPolicy.NEVER)),
+        new Variant("JSON, pretty, gzip", path -> new JsonAddressBookStorage(path, true, true, FsyncPolicy.NEVER)),
+        new Variant("JSON, compact, gzip", path -> new JsonAddressBookStorage(path, false, true, FsyncPolicy.NEVER)),
+        new Variant("Binary", path -> new BinaryAddressBookStorage(path, FsyncPolicy.NEVER)),
+    };
+
+    /**
+     * Prints the save time, load time and file size of each format for each number of persons in {@code args}.
+     */
+    public static void main(String[] args) throws Exception {
+        int[] personCounts = args.length == 0 ? DEFAULT_PERSON_COUNTS
+                : Stream.of(args).mapToInt(Integer::parseInt).toArray();
+        Path folder = Files.createTempDirectory("benchmark");
+        try {
+            System.out.printf("%9s  %-20s %10s %10s %12s %18s%n", "Persons", "Format", "Save (ms)", "Load (ms)",
+                    "Size (KiB)", String.format("Load at %.0f MB/s", NETWORK_MEGABYTES_PER_SECOND));
+            for (int personCount : personCounts) {
+                AddressBook addressBook = createAddressBook(personCount);
+                for (Variant variant : VARIANTS) {
+                    measure(personCount, addressBook, variant, folder.resolve("addressbook"));
+                }
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(folder)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+    }
+
+    private static void measure(int personCount, AddressBook addressBook, Variant variant, Path filePath)
+            throws Exception {
+        AddressBookStorage storage = variant.storageFactory.apply(filePath);
+        long bestSaveNanos = Long.MAX_VALUE;
+        long bestLoadNanos = Long.MAX_VALUE;
+        // The first round warms up the code measured, and the fastest of the rounds is reported
+        for (int round = 0; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            long saved = System.nanoTime();
+            storage.readAddressBook().get();
+            long loaded = System.nanoTime();
+            if (round > 0) {
+                bestSaveNanos = Math.min(bestSaveNanos, saved - start);
+                bestLoadNanos = Math.min(bestLoadNanos, loaded - saved);
+            }
+        }
+
+        long size = Files.size(filePath);
+        double loadMillis = bestLoadNanos / 1e6;
+        double networkLoadMillis = loadMillis + size / (NETWORK_MEGABYTES_PER_SECOND * 1e6) * 1000;
+        System.out.printf("%9d  %-20s %10.1f %10.1f %12d %18.1f%n", personCount, variant.name, bestSaveNanos / 1e6,
+                loadMillis, size / 1024, networkLoadMillis);
+    }
+
+    /**
+     * Returns an address book of {@code personCount} persons, with one wedding for every
+     * {@link #PERSONS_PER_WEDDING} persons. Like real address books, it repeats the same roles, venues and
+     * wedding ids many times.
+     */
+    private static AddressBook createAddressBook(int personCount) throws Exception {
+        AddressBook addressBook = new AddressBook();
+        int weddingCount = Math.max(1, personCount / PERSONS_PER_WEDDING);
+        for (int i = 1; i <= weddingCount; i++) {
+            Wedding wedding = new Wedding(new WeddingId("W" + i), new WeddingName("Wedding " + i),
+                    new WeddingDate("15-Jun-2030"), new WeddingLocation(VENUES[i % VENUES.length]));
+            wedding.addTask(new WeddingTask("Book the venue"));
+            wedding.addTask(new WeddingTask("Send invitations"));
+            addressBook.addWedding(wedding);
+        }
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(new PersonBuilder()
+                    .withName("Person " + i)
+                    .withPhone(String.valueOf(80_000_000 + i))
+                    .withEmail("person" + i + "@example.com")
+                    .withRole(ROLES[i % ROLES.length])
+                    .withAddress(VENUES[i % VENUES.length])
+                    .withTags("W" + (i % weddingCount + 1))
+                    .build());
+        }
+        return addressBook;
+    }
+
+    /**
+     * A data file format to measure, with the storage that writes it.
+     */
+    private static class Variant {
+        private final String name;
+        private final Function<Path, AddressBookStorage> storageFactory;
+
+        Variant(String name, Function<Path, AddressBookStorage> storageFactory) {
+            this.name = name;
+            this.storageFactory = storageFactory;
+        }
+    }
+
+}
@@ -0,0 +1,199 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingDate;
+import seedu.address.model.wedding.WeddingId;
+import seedu.address.model.wedding.WeddingLocation;
+import seedu.address.model.wedding.WeddingName;
+import seedu.address.model.wedding.WeddingTask;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_personEdited_onlyEditAppendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        String snapshot = Files.readString(filePath);
+
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        List<String> journal = Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath));
+        assertEquals(1, journal.size());
+        assertTrue(journal.get(0).length() < 400);
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_journalReplayed_changesRestored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        Wedding wedding = createWedding("W010");
+        wedding.addTask(new WeddingTask("Book venue"));
+        addressBook.addWedding(wedding);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        addressBook.addWedding(createWedding("W011"));
+        storage.saveAddressBook(addressBook);
+        wedding.getTasks().get(0).markAsDone(); // tasks are changed in place
+        wedding.addTask(new WeddingTask("Send invitations"));
+        storage.saveAddressBook(addressBook);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(readBack));
+        assertEquals(wedding.getTasks(), readBack.getWeddingList().get(0).getTasks());
+        assertEquals(3, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+    }
+
+    @Test
+    public void readAddressBook_weddingAddedAndRemoved_nextWeddingIdRestored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        Wedding wedding = createWedding("W010");
+        addressBook.addWedding(wedding);
+        addressBook.removeWedding(wedding);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(11, new JournaledAddressBookStorage(filePath).readAddressBook().get().getNextWeddingId());
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_snapshotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_entryDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        Files.write(journalPath, "{\"personIndex\":0,\"personsRem".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        storage = new JournaledAddressBookStorage(filePath);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+
+        // The next save starts over from a new snapshot instead of appending after the incomplete entry
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidEntryBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        new JournaledAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.write(journalPath, "not json\n{\"personIndex\":0,\"personsRemoved\":1}\n"
+                .getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+
+        Files.write(journalPath, "{\"personIndex\":99,\"personsRemoved\":1}\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_interruptedSnapshotRewrite_rewriteCompleted() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path tempPath = testFolder.resolve("addressbook.json.tmp");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        AddressBook updated = getTypicalAddressBook();
+        updated.removePerson(ALICE);
+        new JsonAddressBookStorage(tempPath).saveAddressBook(updated);
+
+        // The journal still exists, so the new snapshot may be incomplete and is discarded
+        Files.createFile(JournaledAddressBookStorage.getJournalFilePath(filePath));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+        assertFalse(Files.exists(tempPath));
+
+        // The journal was removed, so the new snapshot was complete
+        Files.delete(JournaledAddressBookStorage.getJournalFilePath(filePath));
+        new JsonAddressBookStorage(tempPath).saveAddressBook(updated);
+        assertEquals(updated, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+        assertFalse(Files.exists(tempPath));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook, otherFilePath);
+
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(otherFilePath).readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook(filePath).get()));
+    }
+
+    private static Wedding createWedding(String weddingId) throws Exception {
+        return new Wedding(new WeddingId(weddingId), new WeddingName("Wedding " + weddingId),
+                new WeddingDate("15-Jun-2030"), new WeddingLocation("Central Park"));
+    }
+}
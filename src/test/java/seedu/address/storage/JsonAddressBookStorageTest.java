@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,6 +10,8 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,8 +19,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FsyncPolicy;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingDate;
+import seedu.address.model.wedding.WeddingId;
+import seedu.address.model.wedding.WeddingLocation;
+import seedu.address.model.wedding.WeddingName;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +72,25 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_personsNotList_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("personsNotListAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_duplicateWeddings_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("duplicateWeddingAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_unknownAndUnorderedFields_success() throws Exception {
+        ReadOnlyAddressBook addressBook = readAddressBook("unorderedFieldsAddressBook.json").get();
+        assertEquals("Hans Muster", addressBook.getPersonList().get(0).getName().fullName);
+        Wedding wedding = addressBook.getWeddingList().get(0);
+        assertEquals("W7", wedding.getWeddingId().value);
+        assertTrue(wedding.getTasks().get(0).isDone());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +117,72 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_newestWeddingRemoved_nextWeddingIdKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        Wedding wedding = new Wedding(original.allocateWeddingId(), new WeddingName("Alice and Bob"),
+                new WeddingDate("15-Jun-2030"), new WeddingLocation("Central Park"));
+        original.addWedding(wedding);
+        original.removeWedding(wedding);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(2, readBack.getNextWeddingId());
+    }
+
+    @Test
+    public void saveAddressBook_prettyPrinted_sameLayoutAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_notPrettyPrinted_writtenOnOneLine() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_largeFile_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 10_000; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertTrue(Files.size(filePath) > 1024 * 1024); // large enough to be mapped
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compressed_readWhetherCompressedOrNot() throws Exception {
+        Path compressedPath = testFolder.resolve("Compressed.json");
+        Path uncompressedPath = testFolder.resolve("Uncompressed.json");
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 10_000; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        original.addWedding(new Wedding(new WeddingId("W1"), new WeddingName("Alice and Bob"),
+                new WeddingDate("15-Jun-2030"), new WeddingLocation("Central Park")));
+        new JsonAddressBookStorage(compressedPath, true, true, FsyncPolicy.NEVER).saveAddressBook(original);
+        new JsonAddressBookStorage(uncompressedPath).saveAddressBook(original);
+
+        assertTrue(FileUtil.isGzipCompressed(ByteBuffer.wrap(Files.readAllBytes(compressedPath))));
+        assertTrue(Files.size(compressedPath) * 10 < Files.size(uncompressedPath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(compressedPath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(uncompressedPath, true, true,
+                FsyncPolicy.NEVER).readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -24,6 +24,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_WEDDINGS_FILE = TEST_DATA_FOLDER.resolve("typicalWeddingsAddressBook.json");
     private static final Path INVALID_WEDDING_FILE = TEST_DATA_FOLDER.resolve("invalidWeddingAddressBook.json");
     private static final Path DUPLICATE_WEDDING_FILE = TEST_DATA_FOLDER.resolve("duplicateWeddingAddressBook.json");
+    private static final Path NEXT_WEDDING_ID_FILE = TEST_DATA_FOLDER.resolve("nextWeddingIdAddressBook.json");
+    private static final Path INVALID_NEXT_WEDDING_ID_FILE =
+            TEST_DATA_FOLDER.resolve("invalidNextWeddingIdAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -70,4 +73,26 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class,
                 JsonSerializableAddressBook.MESSAGE_DUPLICATE_WEDDING, dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_noNextWeddingId_nextIdAboveLargestId() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_WEDDINGS_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertEquals(3, dataFromFile.toModelType().getNextWeddingId());
+    }
+
+    @Test
+    public void toModelType_nextWeddingId_nextIdRestored() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(NEXT_WEDDING_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertEquals(5, dataFromFile.toModelType().getNextWeddingId());
+    }
+
+    @Test
+    public void toModelType_invalidNextWeddingId_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_NEXT_WEDDING_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_INVALID_NEXT_WEDDING_ID,
+                dataFromFile::toModelType);
+    }
 }
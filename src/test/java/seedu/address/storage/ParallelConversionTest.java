@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingId;
+
+public class ParallelConversionTest {
+
+    private static final ParallelConversion.Converter<Integer, String> CONVERTER = entry -> {
+        if (entry < 0) {
+            throw new IllegalValueException("Invalid entry " + entry);
+        }
+        return "entry " + entry;
+    };
+
+    @Test
+    public void join_emptyList_emptyResult() throws Exception {
+        assertTrue(ParallelConversion.start(Collections.<Integer>emptyList(), CONVERTER).join().isEmpty());
+    }
+
+    @Test
+    public void join_manyEntries_convertedInOrder() throws Exception {
+        List<Integer> entries = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            entries.add(i);
+        }
+
+        List<String> converted = ParallelConversion.start(entries, CONVERTER).join();
+        assertEquals(entries.size(), converted.size());
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals("entry " + i, converted.get(i));
+        }
+    }
+
+    @Test
+    public void join_invalidEntries_firstInvalidEntryReported() {
+        List<Integer> entries = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            entries.add(i == 700 || i == 9000 ? -i : i);
+        }
+
+        assertThrows(IllegalValueException.class, "Invalid entry -700", () ->
+                ParallelConversion.start(entries, CONVERTER).join());
+    }
+
+    @Test
+    public void join_restoredWeddings_nextIdAboveLargestId() throws Exception {
+        List<JsonAdaptedWedding> entries = new ArrayList<>();
+        for (int i = 1; i <= 5000; i++) {
+            entries.add(new JsonAdaptedWedding("W" + i, "Wedding " + i, "15-Jun-2030", "Central Park", null));
+        }
+
+        List<Wedding> weddings = ParallelConversion.start(entries, JsonAdaptedWedding::toModelType).join();
+        assertEquals("W5000", weddings.get(4999).getWeddingId().value);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setWeddings(weddings);
+        assertEquals(5001, addressBook.getNextWeddingId());
+        assertEquals(new WeddingId("W5001"), addressBook.allocateWeddingId());
+    }
+
+}
@@ -0,0 +1,213 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FsyncPolicy;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingDate;
+import seedu.address.model.wedding.WeddingId;
+import seedu.address.model.wedding.WeddingLocation;
+import seedu.address.model.wedding.WeddingName;
+import seedu.address.model.wedding.WeddingTask;
+import seedu.address.model.wedding.exceptions.TaskLoadingException;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new ShardedAddressBookStorage(testFolder.resolve("addressbook.json")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("addressbook.json")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getAddressBookWithWeddings();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getWeddingList().get(0).getTasks(), readBack.getWeddingList().get(0).getTasks());
+        assertTrue(readBack.getWeddingList().get(1).getTasks().isEmpty());
+
+        original.addPerson(HOON);
+        original.removeWedding(original.getWeddingList().get(1));
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_newestWeddingRemoved_nextWeddingIdKept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getAddressBookWithWeddings();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removeWedding(addressBook.getWeddingById(new WeddingId("W02")));
+        storage.saveAddressBook(addressBook);
+        assertEquals(3, new ShardedAddressBookStorage(filePath).readAddressBook().get().getNextWeddingId());
+    }
+
+    @Test
+    public void readAddressBook_weddingTasks_loadedOnFirstAccess() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getAddressBookWithWeddings());
+
+        Wedding wedding = new ShardedAddressBookStorage(filePath).readAddressBook().get().getWeddingList().get(0);
+        assertFalse(wedding.hasLoadedTasks());
+        assertEquals(2, wedding.getTasks().size());
+        assertTrue(wedding.hasLoadedTasks());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedShards_notRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getAddressBookWithWeddings());
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Set<String> shardsBefore = listShards(filePath);
+
+        // Saving an unchanged address book writes nothing, and leaves the tasks in their files
+        storage.saveAddressBook(addressBook);
+        assertEquals(shardsBefore, listShards(filePath));
+        assertFalse(addressBook.getWeddingList().get(0).hasLoadedTasks());
+
+        // Loading the tasks without changing them does not make their shard dirty
+        addressBook.getWeddingList().get(0).getTasks();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Set<String> shardsAfterPersonAdded = listShards(filePath);
+        assertEquals(shardsBefore.size(), shardsAfterPersonAdded.size());
+        assertTrue(shardsAfterPersonAdded.containsAll(shardsBefore.stream()
+                .filter(name -> name.startsWith("tasks-")).collect(Collectors.toSet())));
+
+        // Only the shard of the changed wedding is rewritten
+        addressBook.getWeddingList().get(0).addTask(new WeddingTask("Order the cake"));
+        storage.saveAddressBook(addressBook);
+        Set<String> shardsAfterTaskAdded = listShards(filePath);
+        assertEquals(shardsAfterPersonAdded.size(), shardsAfterTaskAdded.size());
+        assertTrue(shardsAfterTaskAdded.containsAll(shardsAfterPersonAdded.stream()
+                .filter(name -> name.startsWith("persons-")).collect(Collectors.toSet())));
+        assertFalse(shardsAfterTaskAdded.containsAll(shardsAfterPersonAdded));
+
+        assertEquals(addressBook.getWeddingList().get(0).getTasks(), new ShardedAddressBookStorage(filePath)
+                .readAddressBook().get().getWeddingList().get(0).getTasks());
+    }
+
+    @Test
+    public void saveAddressBook_otherPath_copiesUnloadedTasks() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path copyPath = testFolder.resolve("copy").resolve("addressbook.json");
+        AddressBook original = getAddressBookWithWeddings();
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(storage.readAddressBook().get(), copyPath);
+        ReadOnlyAddressBook copy = storage.readAddressBook(copyPath).get();
+        assertEquals(original, new AddressBook(copy));
+        assertEquals(original.getWeddingList().get(0).getTasks(), copy.getWeddingList().get(0).getTasks());
+    }
+
+    @Test
+    public void convertJsonToShardedAndBack_lossless() throws Exception {
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        Path shardedPath = testFolder.resolve("sharded.json");
+        AddressBook original = getAddressBookWithWeddings();
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+        byte[] originalJson = Files.readAllBytes(jsonPath);
+
+        // The sharded storage reads the JSON file, and the JSON storage reads the manifest
+        ShardedAddressBookStorage shardedStorage = new ShardedAddressBookStorage(shardedPath, false,
+                FsyncPolicy.NEVER);
+        shardedStorage.saveAddressBook(shardedStorage.readAddressBook(jsonPath).get());
+        assertTrue(ShardedAddressBookReader.isManifestFile(shardedPath));
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonPath);
+        jsonStorage.saveAddressBook(jsonStorage.readAddressBook(shardedPath).get());
+
+        assertEquals(new String(originalJson), new String(Files.readAllBytes(jsonPath)));
+    }
+
+    @Test
+    public void getTasks_missingShard_throwsTaskLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getAddressBookWithWeddings());
+        Wedding wedding = new ShardedAddressBookStorage(filePath).readAddressBook().get().getWeddingList().get(0);
+
+        for (String shard : listShards(filePath)) {
+            if (shard.startsWith("tasks-")) {
+                Files.delete(ShardedAddressBookStorage.getShardDirectoryPath(filePath).resolve(shard));
+            }
+        }
+        assertThrows(TaskLoadingException.class, wedding::getTasks);
+    }
+
+    @Test
+    public void saveAddressBook_tasksCannotBeLoaded_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getAddressBookWithWeddings());
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        ReadOnlyAddressBook addressBook = storage.readAddressBook().get();
+
+        for (String shard : listShards(filePath)) {
+            if (shard.startsWith("tasks-")) {
+                Files.delete(ShardedAddressBookStorage.getShardDirectoryPath(filePath).resolve(shard));
+            }
+        }
+        assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook,
+                testFolder.resolve("copy.json")));
+        assertThrows(IOException.class, () -> new JsonAddressBookStorage(testFolder.resolve("data.json"))
+                .saveAddressBook(addressBook));
+        assertThrows(IOException.class, () -> new BinaryAddressBookStorage(testFolder.resolve("data.bin"))
+                .saveAddressBook(addressBook));
+        assertThrows(IOException.class, () -> new JournaledAddressBookStorage(testFolder.resolve("journaled.json"))
+                .saveAddressBook(addressBook));
+    }
+
+    private static Set<String> listShards(Path filePath) throws IOException {
+        try (Stream<Path> shards = Files.list(ShardedAddressBookStorage.getShardDirectoryPath(filePath))) {
+            return shards.map(shard -> shard.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+
+    private static AddressBook getAddressBookWithWeddings() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Wedding wedding = new Wedding(new WeddingId("W1"), new WeddingName("Alice and Bob"),
+                new WeddingDate("15-Jun-2030"), new WeddingLocation("Central Park"));
+        WeddingTask doneTask = new WeddingTask("Book the venue");
+        doneTask.markAsDone();
+        wedding.addTask(doneTask);
+        wedding.addTask(new WeddingTask("Send invitations"));
+        addressBook.addWedding(wedding);
+        addressBook.addWedding(new Wedding(new WeddingId("W02"), new WeddingName("Carl and Elle"),
+                new WeddingDate("01-Jan-2031"), new WeddingLocation("Central Park")));
+        return addressBook;
+    }
+
+}
@@ -0,0 +1,205 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingDate;
+import seedu.address.model.wedding.WeddingId;
+import seedu.address.model.wedding.WeddingLocation;
+import seedu.address.model.wedding.WeddingName;
+import seedu.address.model.wedding.WeddingTask;
+
+public class WriteBehindAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_thenFlush_addressBookWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JournaledAddressBookStorage(filePath));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_savesDuringWrite_coalescedIntoOneWrite() throws Exception {
+        AddressBookStorageStub stub = new AddressBookStorageStub(testFolder.resolve("addressbook.json"));
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(stub);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        stub.writeStarted.await();
+
+        for (int i = 0; i < 10; i++) {
+            addressBook.addPerson(HOON);
+            storage.saveAddressBook(addressBook);
+            addressBook.removePerson(HOON);
+            storage.saveAddressBook(addressBook);
+        }
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        stub.canWrite.countDown();
+        storage.flushAddressBook();
+
+        assertEquals(2, stub.writtenAddressBooks.size());
+        assertEquals(addressBook, new AddressBook(stub.writtenAddressBooks.get(1)));
+    }
+
+    @Test
+    public void saveAddressBook_changedWhileWaiting_snapshotWritten() throws Exception {
+        AddressBookStorageStub stub = new AddressBookStorageStub(testFolder.resolve("addressbook.json"));
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(stub);
+        AddressBook addressBook = new AddressBook();
+        Wedding wedding = new Wedding(new WeddingId("W1"), new WeddingName("John Wedding"),
+                new WeddingDate("15-Jun-2030"), new WeddingLocation("Central Park"));
+        wedding.addTask(new WeddingTask("Book venue"));
+        addressBook.addWedding(wedding);
+        storage.saveAddressBook(addressBook);
+
+        wedding.getTasks().get(0).markAsDone();
+        addressBook.addPerson(ALICE);
+        stub.canWrite.countDown();
+        storage.flushAddressBook();
+
+        ReadOnlyAddressBook written = stub.writtenAddressBooks.get(0);
+        assertEquals(0, written.getPersonList().size());
+        assertEquals(List.of(new WeddingTask("Book venue")), written.getWeddingList().get(0).getTasks());
+    }
+
+    @Test
+    public void flushAddressBook_writeFailed_failureReportedAndWriteRetried() throws Exception {
+        AddressBookStorageStub stub = new AddressBookStorageStub(testFolder.resolve("addressbook.json"));
+        stub.failuresLeft = 1;
+        stub.canWrite.countDown();
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(stub);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        assertThrows(IOException.class, storage::flushAddressBook);
+        storage.flushAddressBook();
+        assertEquals(addressBook, new AddressBook(stub.writtenAddressBooks.get(0)));
+    }
+
+    @Test
+    public void flushAddressBook_writeFailedUnchecked_failureReportedAndWriteRetried() throws Exception {
+        AddressBookStorageStub stub = new AddressBookStorageStub(testFolder.resolve("addressbook.json"));
+        stub.failuresLeft = 1;
+        stub.isFailureUnchecked = true;
+        stub.canWrite.countDown();
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(stub);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        assertThrows(IOException.class, storage::flushAddressBook);
+        storage.flushAddressBook();
+        assertEquals(addressBook, new AddressBook(stub.writtenAddressBooks.get(0)));
+    }
+
+    @Test
+    public void saveAddressBook_writeFailedWithListener_failureReportedToListenerOnly() throws Exception {
+        AddressBookStorageStub stub = new AddressBookStorageStub(testFolder.resolve("addressbook.json"));
+        stub.failuresLeft = 1;
+        stub.canWrite.countDown();
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(stub);
+        CompletableFuture<IOException> reportedFailure = new CompletableFuture<>();
+        storage.setWriteFailureListener(reportedFailure::complete);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        assertEquals("dummy IO exception", reportedFailure.get(10, TimeUnit.SECONDS).getMessage());
+        // The failure was reported already, so the next save does not report it again
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+        assertEquals(addressBook, new AddressBook(stub.writtenAddressBooks.get(0)));
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the address books written, and holds the writes back until
+     * it is allowed to write.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        private final Path filePath;
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch canWrite = new CountDownLatch(1);
+        private final List<ReadOnlyAddressBook> writtenAddressBooks = new ArrayList<>();
+        private int failuresLeft;
+        private boolean isFailureUnchecked;
+
+        AddressBookStorageStub(Path filePath) {
+            this.filePath = filePath;
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return filePath;
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            writeStarted.countDown();
+            try {
+                canWrite.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                if (isFailureUnchecked) {
+                    throw new IllegalStateException("dummy unchecked exception");
+                }
+                throw new IOException("dummy IO exception");
+            }
+            writtenAddressBooks.add(addressBook);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void flushAddressBook() {
+        }
+
+        @Override
+        public void setWriteFailureListener(Consumer<IOException> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}